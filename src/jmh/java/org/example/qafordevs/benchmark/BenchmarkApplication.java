@@ -0,0 +1,33 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.SpringTestQafordevsApplication;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Starts the application without a web server on a fresh in-memory H2 database seeded with {@code rows} developers.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(int rows, String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringTestQafordevsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"
+            )
+            .properties(properties)
+            .run();
+        DeveloperDataSeeder.seed(new JdbcTemplate(context.getBean(DataSource.class)), rows);
+        return context;
+    }
+
+}
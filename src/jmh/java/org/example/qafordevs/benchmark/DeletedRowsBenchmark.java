@@ -0,0 +1,104 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.archive.DeveloperArchiver;
+import org.example.qafordevs.dto.DeveloperPage;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.service.DeveloperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Active-only queries over {@code rows} seeded developers plus {@code deletedRows} extra deleted ones, with the
+ * deleted developers left in {@code developers} or moved to the archive. With {@code archived} the scores should
+ * not move as {@code deletedRows} grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeletedRowsBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"2000"})
+    public int rows;
+
+    @Param({"0", "50000", "200000"})
+    public int deletedRows;
+
+    @Param({"false", "true"})
+    public boolean archived;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows,
+            "spring.cache.type=none",
+            "developers.archive.enabled=true",
+            // archived once below, never while measuring
+            "developers.archive.interval=PT24H",
+            "developers.archive.batch-size=5000",
+            "developers.archive.max-batches-per-run=1000");
+        developerService = context.getBean(DeveloperService.class);
+        seedDeleted(new JdbcTemplate(context.getBean(DataSource.class)), deletedRows);
+        if (archived) {
+            context.getBean(DeveloperArchiver.class).archiveDeleted();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperEntity> getAllDevelopers() {
+        return developerService.getAllDevelopers();
+    }
+
+    @Benchmark
+    public List<DeveloperEntity> getAllActiveBySpeciality() {
+        return developerService.getAllActiveBySpeciality("Java");
+    }
+
+    @Benchmark
+    public DeveloperPage getActiveDevelopersPage() {
+        return developerService.getActiveDevelopersPage(null, 100);
+    }
+
+    private static void seedDeleted(JdbcTemplate jdbcTemplate, int count) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int index = from; index < Math.min(from + BATCH_SIZE, count); index++) {
+                batch.add(new Object[]{"Deleted" + index, "deleted" + index + "@mail.com", index % 2 == 0 ? "Java" : "Go"});
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO developers (first_name, last_name, email, speciality, status) VALUES (?, 'Deleted', ?, ?, 'DELETED')",
+                batch
+            );
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.search.DeveloperSearchIndex;
+import org.example.qafordevs.service.DeveloperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead latency distribution; sample mode reports p99 next to the mean.
+ * With {@code index=false} searches fall back to the LIKE query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class DeveloperSearchBenchmark {
+
+    // one keystroke, a few keystrokes, a nearly complete word and two words
+    private static final String[] QUERIES = {"f", "first12", "last9999", "developer4242", "ja", "first1 last1", "kot"};
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean index;
+
+    @Param({"10"})
+    public int limit;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows, "developers.search.enabled=" + index);
+        if (index) {
+            // the index was built at startup, before the rows were seeded
+            context.getBean(DeveloperSearchIndex.class).build();
+        }
+        developerService = context.getBean(DeveloperService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperView> search() {
+        return developerService.searchDevelopers(QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)], limit);
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperServiceBenchmark {
+
+    private static final String[] SPECIALITIES = {"Java", "Kotlin", "Go", "Python", "JavaScript", "C++", "Rust", "Scala"};
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+    private List<Integer> ids;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows, "spring.cache.type=" + cacheType);
+        developerService = context.getBean(DeveloperService.class);
+        ids = developerService.getAllDevelopers().stream().map(DeveloperEntity::getId).toList();
+        nextIndex = rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperEntity saveDeveloper() {
+        return developerService.saveDeveloper(EntityGenerator.getDeveloperTransient(nextIndex++));
+    }
+
+    @Benchmark
+    public DeveloperEntity getDeveloperById() {
+        return developerService.getDeveloperById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public DeveloperEntity getDeveloperByEmail() {
+        // every fourth generated developer is deleted but still found by email
+        return developerService.getDeveloperByEmail("developer" + ThreadLocalRandom.current().nextInt(rows) + "@mail.com");
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int getAllDevelopers() {
+        return developerService.getAllDevelopers().size();
+    }
+
+    @Benchmark
+    public int getAllActiveBySpeciality() {
+        return developerService.getAllActiveBySpeciality(
+            SPECIALITIES[ThreadLocalRandom.current().nextInt(SPECIALITIES.length)]
+        ).size();
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.service.DeveloperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads looking up a handful of hot ids with the cache off, with and without coalescing and batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class LookupContentionBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"1", "64"})
+    public int hotIds;
+
+    @Param({"false", "true"})
+    public boolean coalesce;
+
+    @Param({"false", "true"})
+    public boolean batch;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+    private List<Integer> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows,
+            "spring.cache.type=none",
+            "developers.lookup.coalesce=" + coalesce,
+            "developers.lookup.batch-enabled=" + batch);
+        developerService = context.getBean(DeveloperService.class);
+        ids = developerService.getAllDevelopers().stream().map(DeveloperEntity::getId).limit(hotIds).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperEntity getDeveloperById() {
+        return developerService.getDeveloperById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+}
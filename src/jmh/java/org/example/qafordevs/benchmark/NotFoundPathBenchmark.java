@@ -0,0 +1,114 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.service.DeveloperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probing unknown emails. The {@code *Exception} benchmarks isolate building the miss: an eagerly formatted message
+ * with a filled in stack trace, as misses were reported before, the same message without the stack trace, and the
+ * lazily formatted stackless exception. The {@code probe*} benchmarks run the whole
+ * service lookup, once throwing and once returning an empty result. Allocation per operation is reported with
+ * {@code ./gradlew jmh -PjmhInclude=NotFoundPathBenchmark -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows);
+        developerService = context.getBean(DeveloperService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void eagerlyFormattedException(Blackhole blackhole) {
+        try {
+            throw new StackTracedNotFoundException(String.format("Developer with email %s not found", unknownEmail()));
+        } catch (StackTracedNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void eagerlyFormattedStacklessException(Blackhole blackhole) {
+        try {
+            throw new DeveloperNotFoundException(String.format("Developer with email %s not found", unknownEmail()));
+        } catch (DeveloperNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void lazilyFormattedException(Blackhole blackhole) {
+        try {
+            throw DeveloperNotFoundException.byEmail(unknownEmail());
+        } catch (DeveloperNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void probeWithException(Blackhole blackhole) {
+        try {
+            blackhole.consume(developerService.getDeveloperByEmail(unknownEmail()));
+        } catch (DeveloperNotFoundException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Optional<DeveloperEntity> probeWithOptional() {
+        return developerService.findDeveloperByEmail(unknownEmail());
+    }
+
+    private static String unknownEmail() {
+        return "unknown" + ThreadLocalRandom.current().nextInt(1024) + "@mail.com";
+    }
+
+    /**
+     * The not-found exception as it was before misses became stackless.
+     */
+    private static final class StackTracedNotFoundException extends RuntimeException {
+
+        StackTracedNotFoundException(String message) {
+            super(message);
+        }
+
+    }
+
+}
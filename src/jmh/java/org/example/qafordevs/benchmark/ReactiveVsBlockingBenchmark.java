@@ -0,0 +1,93 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.service.ReactiveDeveloperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Serves {@code concurrency} simultaneous lookups by id with {@code threads} platform threads on the blocking stack
+ * and with a single subscriber on the reactive stack. The cache is off so every lookup reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveVsBlockingBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"4"})
+    public int threads;
+
+    @Param({"256", "1024"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+    private ReactiveDeveloperService reactiveDeveloperService;
+    private ExecutorService executor;
+    private List<Integer> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows, "spring.cache.type=none");
+        developerService = context.getBean(DeveloperService.class);
+        reactiveDeveloperService = context.getBean(ReactiveDeveloperService.class);
+        executor = Executors.newFixedThreadPool(threads);
+        ids = developerService.getAllDevelopers().stream().map(DeveloperEntity::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public long blocking() {
+        CompletableFuture<?>[] lookups = IntStream.range(0, concurrency)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> developerService.getDeveloperById(randomId()), executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(lookups).join();
+        return lookups.length;
+    }
+
+    @Benchmark
+    public long reactive() {
+        return Flux.range(0, concurrency)
+            .flatMap(i -> reactiveDeveloperService.getDeveloperById(randomId()), concurrency)
+            .count()
+            .block();
+    }
+
+    private Integer randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+}
@@ -0,0 +1,109 @@
+package org.example.qafordevs.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the extracted boot jar once per variant and run, and reports the time from launching the JVM to the first
+ * successful response of {@code GET /api/v1/developers/page}. The first variant recreates the schema with Hibernate
+ * like the application did before the Flyway migrations, the others add lazy initialization, the CDS archive and the
+ * AOT generated bean definitions on top of the migrated schema.
+ * <p>
+ * Run with {@code ./gradlew startupBenchmark [-PstartupRuns=N]}, it is not a JMH benchmark since every sample is a
+ * separate JVM.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(200))
+        .build();
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args[0]);
+        Path archive = Path.of(args[1]);
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        String cds = "-XX:SharedArchiveFile=" + archive;
+        String lazy = "-Dspring.main.lazy-initialization=true";
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("ddl-auto create", List.of("-Dspring.flyway.enabled=false", "-Dspring.jpa.hibernate.ddl-auto=create"));
+        variants.put("flyway", List.of());
+        variants.put("flyway + lazy", List.of(lazy));
+        variants.put("flyway + cds", List.of(cds));
+        variants.put("flyway + cds + aot + lazy", List.of(cds, "-Dspring.aot.enabled=true", lazy));
+
+        System.out.printf("%-28s %10s %10s %10s%n", "variant", "min, ms", "median, ms", "max, ms");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Long> samples = new ArrayList<>(runs);
+            for (int i = 0; i < runs; i++) {
+                samples.add(timeToFirstRequest(jar, variant.getValue()));
+            }
+            samples.sort(null);
+            System.out.printf("%-28s %10d %10d %10d%n", variant.getKey(),
+                samples.get(0), samples.get(samples.size() / 2), samples.get(samples.size() - 1));
+        }
+    }
+
+    private static long timeToFirstRequest(Path jar, List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/developers/page?size=1"))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(jar.getParent().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue());
+                }
+                try {
+                    if (CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException ignored) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
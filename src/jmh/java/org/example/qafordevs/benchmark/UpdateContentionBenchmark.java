@@ -0,0 +1,96 @@
+package org.example.qafordevs.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads editing {@code hotRows} overlapping developers, each edit reads the row and writes it back. With
+ * {@code versioned} the write names the version it read and is retried on a conflict, so the score counts edits that
+ * were applied on top of the state they read; without it every write lands and concurrent edits overwrite each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class UpdateContentionBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"1", "16", "256"})
+    public int hotRows;
+
+    @Param({"false", "true"})
+    public boolean versioned;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+    private DeveloperRepository developerRepository;
+    private List<Integer> ids;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Conflicts {
+
+        public long conflicts;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows, "spring.cache.type=none");
+        developerService = context.getBean(DeveloperService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+        ids = developerService.getAllDevelopers().stream().map(DeveloperEntity::getId).limit(hotRows).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperEntity updateDeveloper(Conflicts conflicts) {
+        Integer id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        String speciality = "Speciality-" + Thread.currentThread().getId();
+        while (true) {
+            DeveloperEntity developer = developerRepository.findById(id).orElseThrow().toBuilder()
+                .speciality(speciality)
+                .build();
+            if (!versioned) {
+                developer.setVersion(null);
+            }
+            try {
+                return developerService.updateDeveloper(developer);
+            } catch (DeveloperVersionConflictException e) {
+                conflicts.conflicts++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.example.qafordevs.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.cache.DeveloperCache;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Moves deleted developers from {@code developers} to {@code developers_archive} in batches, so that
+ * active-only queries do not scan rows that will never match.
+ * <p>
+ * Each batch is locked, copied with one INSERT ... SELECT and removed with one DELETE in its own transaction.
+ * Lookups by id fall back to the archive, so an archived developer is still found as deleted. Lookups by email
+ * do not, and archiving releases the email: a deleted developer's email is a duplicate until its row is archived
+ * and free to register again afterwards. The email to id mappings of archived developers are evicted from the cache
+ * once their batch commits, the developers themselves stay cached as they are still found as deleted by id.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.archive", name = "enabled", havingValue = "true")
+public class DeveloperArchiver {
+
+    private final DeveloperRepository developerRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final DeveloperCache developerCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public DeveloperArchiver(DeveloperRepository developerRepository,
+                             ArchivedDeveloperRepository archivedDeveloperRepository,
+                             DeveloperCache developerCache,
+                             PlatformTransactionManager transactionManager,
+                             DeveloperProperties developerProperties) {
+        this.developerRepository = developerRepository;
+        this.archivedDeveloperRepository = archivedDeveloperRepository;
+        this.developerCache = developerCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = developerProperties.getArchive().getBatchSize();
+        this.maxBatchesPerRun = developerProperties.getArchive().getMaxBatchesPerRun();
+    }
+
+    /**
+     * @return developers archived by this run
+     */
+    @Scheduled(fixedDelayString = "${developers.archive.interval:PT1M}",
+        initialDelayString = "${developers.archive.interval:PT1M}")
+    public int archiveDeleted() {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<DeveloperEntity> moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch());
+            } catch (RuntimeException e) {
+                log.warn("Failed to archive deleted developers, retrying on the next run", e);
+                break;
+            }
+            if (Objects.isNull(moved)) {
+                break;
+            }
+            moved.stream()
+                .map(DeveloperEntity::getEmail)
+                .filter(Objects::nonNull)
+                .forEach(developerCache::evictEmail);
+            archived += moved.size();
+            if (moved.size() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} deleted developers", archived);
+        }
+        return archived;
+    }
+
+    private List<DeveloperEntity> archiveBatch() {
+        List<DeveloperEntity> developers = developerRepository.findDeletedForArchiving(PageRequest.ofSize(batchSize));
+        if (developers.isEmpty()) {
+            return developers;
+        }
+        List<Integer> ids = developers.stream()
+            .map(DeveloperEntity::getId)
+            .toList();
+        archivedDeveloperRepository.copyFromDevelopers(ids, Instant.now());
+        developerRepository.removeAllByIds(ids);
+        return developers;
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.example.qafordevs.cache;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read-through cache of developers keyed by id, with a secondary email to id mapping.
+ * <p>
+ * The email mapping is verified against the cached developer on every read, so a mapping
+ * left behind by an email change is never served. A change also drops the mapping of the email it committed,
+ * because another developer can still be cached with that email after its row left the table, as an archived
+ * developer is.
+ * Developers are copied on the way in and out because entities are mutable.
+ * <p>
+ * A change replaces the cached developer with a tombstone holding the version it committed. Until the tombstone
+ * expires only that version or a later one is put back, and a cached developer is never replaced by an older one,
+ * so a read that loaded the developer before the change committed cannot cache the old state after the eviction.
+ */
+@Component
+public class DeveloperCache {
+
+    public static final String DEVELOPERS = "developers";
+    public static final String DEVELOPER_IDS_BY_EMAIL = "developerIdsByEmail";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Cache developers;
+    private final Cache developerIdsByEmail;
+    private final long tombstoneTtlMillis;
+    // puts and tombstones of the same id are serialized, the Cache abstraction has no compare-and-set
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public DeveloperCache(CacheManager cacheManager, DeveloperProperties developerProperties) {
+        this.developers = Objects.requireNonNull(cacheManager.getCache(DEVELOPERS));
+        this.developerIdsByEmail = Objects.requireNonNull(cacheManager.getCache(DEVELOPER_IDS_BY_EMAIL));
+        this.tombstoneTtlMillis = developerProperties.getCache().getTombstoneTtl().toMillis();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public Optional<DeveloperEntity> getById(Integer id) {
+        Cache.ValueWrapper cached = developers.get(id);
+        if (Objects.nonNull(cached) && cached.get() instanceof DeveloperEntity developer) {
+            return Optional.of(developer.toBuilder().build());
+        }
+        return Optional.empty();
+    }
+
+    public Optional<DeveloperEntity> getByEmail(String email) {
+        Integer id = developerIdsByEmail.get(email, Integer.class);
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        Optional<DeveloperEntity> developer = getById(id)
+            .filter(candidate -> Objects.equals(candidate.getEmail(), email));
+        if (developer.isEmpty()) {
+            developerIdsByEmail.evict(email);
+        }
+        return developer;
+    }
+
+    public void put(DeveloperEntity developer) {
+        synchronized (lock(developer.getId())) {
+            Cache.ValueWrapper cached = developers.get(developer.getId());
+            if (Objects.nonNull(cached) && !replaces(developer, cached.get())) {
+                return;
+            }
+            developers.put(developer.getId(), developer.toBuilder().build());
+        }
+        if (Objects.nonNull(developer.getEmail())) {
+            developerIdsByEmail.put(developer.getEmail(), developer.getId());
+        }
+    }
+
+    /**
+     * @param version version the change committed, {@code null} when unknown, which holds off every put until
+     *                the tombstone expires
+     */
+    public void evict(Integer id, Long version) {
+        synchronized (lock(id)) {
+            developers.put(id, new Tombstone(version, System.currentTimeMillis() + tombstoneTtlMillis));
+        }
+    }
+
+    public void evictEmail(String email) {
+        developerIdsByEmail.evict(email);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        DeveloperEntity developer = event.developer();
+        evict(event.id(), Objects.isNull(developer) ? null : developer.getVersion());
+        if (Objects.nonNull(developer) && Objects.nonNull(developer.getEmail())) {
+            evictEmail(developer.getEmail());
+        }
+    }
+
+    private boolean replaces(DeveloperEntity developer, Object cached) {
+        Long version = developer.getVersion();
+        if (cached instanceof Tombstone tombstone) {
+            return tombstone.expiresAt() <= System.currentTimeMillis()
+                || (Objects.nonNull(version) && Objects.nonNull(tombstone.version()) && version >= tombstone.version());
+        }
+        if (cached instanceof DeveloperEntity cachedDeveloper) {
+            return Objects.isNull(version) || Objects.isNull(cachedDeveloper.getVersion())
+                || version >= cachedDeveloper.getVersion();
+        }
+        return true;
+    }
+
+    private Object lock(Integer id) {
+        return locks[Math.floorMod(Objects.hashCode(id), LOCK_STRIPES)];
+    }
+
+    private record Tombstone(Long version, long expiresAt) implements Serializable {
+    }
+
+}
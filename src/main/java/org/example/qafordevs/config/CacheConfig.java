@@ -0,0 +1,13 @@
+package org.example.qafordevs.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction. The cache provider comes from {@code spring.cache.*},
+ * Caffeine by default, and can be swapped for a distributed one without code changes.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,104 @@
+package org.example.qafordevs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.qafordevs.routing.ReadWriteRoutingDataSource;
+import org.example.qafordevs.routing.ReadYourWritesGuard;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+public class DataSourceRoutingConfig {
+
+    public static final String DATA_SOURCE = "dataSource";
+
+    /**
+     * Read-only transactions are opened for methods that are often served from the cache.
+     * Deferring the connection to the first statement keeps those from taking a pooled connection they never use.
+     */
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE.equals(beanName)
+                    && !isLazy(dataSource)) {
+                    return new LazyConnectionDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isLazy(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(LazyConnectionDataSourceProxy.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "developers.replica", name = "enabled", havingValue = "true")
+    static class ReplicaRouting {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                                  ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+            JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+            if (details == null) {
+                return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            }
+            return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .driverClassName(details.getDriverClassName())
+                .build();
+        }
+
+        @Bean
+        public HikariDataSource replicaDataSource(DeveloperProperties developerProperties) {
+            DeveloperProperties.Replica replica = developerProperties.getReplica();
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+            dataSource.setPoolName("replica");
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        @Bean
+        public ReadYourWritesGuard readYourWritesGuard(DeveloperProperties developerProperties) {
+            return new ReadYourWritesGuard(developerProperties.getReplica().getReadYourWritesWindow());
+        }
+
+        @Bean(DATA_SOURCE)
+        @Primary
+        public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                     ReadYourWritesGuard readYourWritesGuard) {
+            return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesGuard)
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+package org.example.qafordevs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "developers")
+public class DeveloperProperties {
+
+    private Bulk bulk = new Bulk();
+    private SpecialityIndex specialityIndex = new SpecialityIndex();
+    private Lookup lookup = new Lookup();
+    private Cache cache = new Cache();
+    private Replica replica = new Replica();
+    private WriteBehind writeBehind = new WriteBehind();
+    private Outbox outbox = new Outbox();
+    private Search search = new Search();
+    private Archive archive = new Archive();
+    private Limits limits = new Limits();
+
+    @Data
+    public static class Bulk {
+        /**
+         * Rows checked with one IN query and inserted with one JDBC batch.
+         */
+        private int chunkSize = 500;
+    }
+
+    @Data
+    public static class SpecialityIndex {
+        /**
+         * Serves active developers by speciality from memory instead of the database.
+         */
+        private boolean enabled = false;
+        /**
+         * Rows loaded per query while the index is built at startup.
+         */
+        private int buildPageSize = 1000;
+    }
+
+    @Data
+    public static class Lookup {
+        /**
+         * Concurrent lookups of the same id or email share one in-flight query.
+         */
+        private boolean coalesce = true;
+        /**
+         * Merges lookups of different ids arriving within {@link #batchWindow} into one IN query.
+         */
+        private boolean batchEnabled = false;
+        /**
+         * How long the first lookup of a batch waits for others to join it.
+         */
+        private Duration batchWindow = Duration.ofMillis(2);
+        /**
+         * Ids per IN query, a full batch is sent without waiting for the window to end.
+         */
+        private int maxBatchSize = 100;
+        /**
+         * How long a lookup waits for a shared or batched load before it fails with 503.
+         */
+        private Duration waitTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * How long a changed developer only accepts cache puts of its new version or later, so that a load
+         * started before the change, or served by a lagging replica, does not bring the old state back.
+         */
+        private Duration tombstoneTtl = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Replica {
+        /**
+         * Sends read-only transactions to the replica, everything else stays on {@code spring.datasource}.
+         */
+        private boolean enabled = false;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        /**
+         * After a write, reads stay on the primary for this long so that replica lag does not hide the write.
+         * Zero turns it off.
+         */
+        private Duration readYourWritesWindow = Duration.ZERO;
+    }
+
+    @Data
+    public static class WriteBehind {
+        /**
+         * Queues asynchronous deactivations and applies them in batches in the background.
+         */
+        private boolean enabled = false;
+        /**
+         * Deactivations waiting to be applied, callers wait up to {@link #offerTimeout} for room.
+         */
+        private int capacity = 10_000;
+        /**
+         * Ids applied with one UPDATE.
+         */
+        private int batchSize = 500;
+        /**
+         * How long queued deactivations may wait for a batch to fill up.
+         */
+        private Duration flushInterval = Duration.ofMillis(50);
+        private Duration offerTimeout = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Outbox {
+        /**
+         * Records every developer change in the outbox table, in the transaction of the change.
+         */
+        private boolean enabled = false;
+        /**
+         * Publishes recorded changes to the configured sink, only one instance should run the relay.
+         */
+        private boolean relayEnabled = false;
+        private Duration relayInterval = Duration.ofSeconds(1);
+        /**
+         * How often committed changes are given their position in the change stream, which is when they
+         * become visible to consumers and the relay.
+         */
+        private Duration sequenceInterval = Duration.ofMillis(100);
+        /**
+         * Changes read from the outbox and handed to the sinks at once.
+         */
+        private int batchSize = 500;
+        /**
+         * {@code memory} or {@code file}, nothing is published when unset.
+         */
+        private String sink;
+        /**
+         * Target of the {@code file} sink.
+         */
+        private String file = "developer-changes.ndjson";
+    }
+
+    @Data
+    public static class Search {
+        /**
+         * Answers developer searches from an in-memory prefix index instead of LIKE queries.
+         */
+        private boolean enabled = false;
+        /**
+         * Rows loaded per query while the index is built at startup.
+         */
+        private int buildPageSize = 1000;
+    }
+
+    @Data
+    public static class Archive {
+        /**
+         * Periodically moves deleted developers to {@code developers_archive}, only one instance should run it.
+         */
+        private boolean enabled = false;
+        private Duration interval = Duration.ofMinutes(1);
+        /**
+         * Developers moved per transaction.
+         */
+        private int batchSize = 1000;
+        /**
+         * Upper bound of batches per run, so one run does not hold the scheduler for long.
+         */
+        private int maxBatchesPerRun = 100;
+    }
+
+    @Data
+    public static class Limits {
+        /**
+         * Puts bulkheads, rate limits and load shedding in front of every {@code DeveloperService} method.
+         */
+        private boolean enabled = false;
+        /**
+         * Bulkheads by name, shared by the operations that name them.
+         */
+        private Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+        /**
+         * Limits by service method name, methods without an entry run without limits.
+         */
+        private Map<String, Operation> operations = new LinkedHashMap<>();
+        private Shedding shedding = new Shedding();
+
+        @Data
+        public static class Bulkhead {
+            private int maxConcurrent = 64;
+            /**
+             * How long a call waits for a free slot before it is rejected.
+             */
+            private Duration maxWait = Duration.ZERO;
+        }
+
+        @Data
+        public static class Operation {
+            /**
+             * Name of the bulkhead in {@link Limits#bulkheads}, none when unset.
+             */
+            private String bulkhead;
+            /**
+             * Token bucket refill rate, no rate limit when zero.
+             */
+            private double ratePerSecond = 0;
+            /**
+             * Token bucket size, the rate rounded up when zero.
+             */
+            private int burst = 0;
+            /**
+             * Rejected outright while the connection pool is overloaded.
+             */
+            private boolean sheddable = false;
+        }
+
+        @Data
+        public static class Shedding {
+            /**
+             * The pool counts as overloaded from this many threads waiting for a connection.
+             */
+            private int maxPendingThreads = 4;
+            /**
+             * The pool counts as overloaded when connections took longer than this on average to acquire
+             * during the last sample interval.
+             */
+            private Duration maxAcquireTime = Duration.ofMillis(20);
+            private Duration sampleInterval = Duration.ofMillis(100);
+        }
+    }
+
+}
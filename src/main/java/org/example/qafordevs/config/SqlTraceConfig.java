@@ -0,0 +1,41 @@
+package org.example.qafordevs.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.qafordevs.trace.SqlTracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlTraceConfig {
+
+    /**
+     * Routes every statement of the application data source through {@link SqlTracer}.
+     * Pools behind a routing data source are reached through it and are not wrapped again.
+     */
+    @Bean
+    public static BeanPostProcessor sqlTraceDataSourcePostProcessor(ObjectProvider<SqlTracer> sqlTracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                    || !DataSourceRoutingConfig.DATA_SOURCE.equals(beanName)) {
+                    return bean;
+                }
+                SqlTracer tracer = sqlTracer.getIfAvailable();
+                if (tracer == null) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(tracer)
+                    .build();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.example.qafordevs.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk save, one row per input developer in input order.
+ */
+public record DeveloperBulkSaveReport(List<Row> rows) {
+
+    public long count(Outcome outcome) {
+        return rows.stream().filter(row -> row.outcome() == outcome).count();
+    }
+
+    public record Row(int index, String email, Outcome outcome, Integer id) {
+    }
+
+    public enum Outcome {
+        SAVED,
+        DUPLICATE_EMAIL,
+        DUPLICATE_EMAIL_IN_BATCH
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.example.qafordevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+
+import java.time.Instant;
+
+/**
+ * A developer mutation as seen by consumers of the change stream.
+ *
+ * @param sequence  position in the stream in commit order, consumers resume after the last one they processed
+ * @param developer developer state after the change as JSON, absent when the change did not carry it
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeveloperChange(
+    Long sequence,
+    DeveloperChangedEvent.Type type,
+    Integer developerId,
+    @JsonRawValue String developer,
+    Instant createdAt
+) {
+
+    public static DeveloperChange fromOutbox(DeveloperOutboxEntity outbox) {
+        return new DeveloperChange(outbox.getCommitSequence(), outbox.getType(), outbox.getDeveloperId(),
+            outbox.getPayload(), outbox.getCreatedAt());
+    }
+
+}
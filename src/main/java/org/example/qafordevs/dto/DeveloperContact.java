@@ -0,0 +1,7 @@
+package org.example.qafordevs.dto;
+
+/**
+ * Read-only contact columns of a developer, selected without loading the entity.
+ */
+public record DeveloperContact(Integer id, String firstName, String lastName, String email) {
+}
@@ -0,0 +1,49 @@
+package org.example.qafordevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperDto {
+    private Integer id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String speciality;
+    private Status status;
+    private Long version;
+
+    public DeveloperEntity toEntity() {
+        return DeveloperEntity.builder()
+            .id(id)
+            .firstName(firstName)
+            .lastName(lastName)
+            .email(email)
+            .speciality(speciality)
+            .status(status)
+            .version(version)
+            .build();
+    }
+
+    public static DeveloperDto fromEntity(DeveloperEntity developer) {
+        return DeveloperDto.builder()
+            .id(developer.getId())
+            .firstName(developer.getFirstName())
+            .lastName(developer.getLastName())
+            .email(developer.getEmail())
+            .speciality(developer.getSpeciality())
+            .status(developer.getStatus())
+            .version(developer.getVersion())
+            .build();
+    }
+
+}
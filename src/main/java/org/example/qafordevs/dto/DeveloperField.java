@@ -0,0 +1,30 @@
+package org.example.qafordevs.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.exception.DeveloperValidationException;
+
+import java.util.Arrays;
+
+/**
+ * Columns a caller can ask for in a {@link DeveloperView}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DeveloperField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    SPECIALITY("speciality"),
+    STATUS("status");
+
+    private final String attribute;
+
+    public static DeveloperField fromAttribute(String attribute) {
+        return Arrays.stream(values())
+            .filter(field -> field.attribute.equalsIgnoreCase(attribute.trim()))
+            .findFirst()
+            .orElseThrow(() -> new DeveloperValidationException(String.format("Unknown developer field %s", attribute)));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.qafordevs.dto;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+
+import java.util.List;
+
+/**
+ * One keyset page of developers.
+ *
+ * @param content    developers of the page ordered by id
+ * @param nextCursor id to pass as {@code afterId} to get the next page, {@code null} when this is the last page
+ */
+public record DeveloperPage(List<DeveloperEntity> content, Integer nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
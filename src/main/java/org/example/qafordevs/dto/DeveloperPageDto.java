@@ -0,0 +1,11 @@
+package org.example.qafordevs.dto;
+
+import java.util.List;
+
+public record DeveloperPageDto(List<DeveloperDto> content, Integer nextCursor) {
+
+    public static DeveloperPageDto fromPage(DeveloperPage page) {
+        return new DeveloperPageDto(page.content().stream().map(DeveloperDto::fromEntity).toList(), page.nextCursor());
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.example.qafordevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.qafordevs.entity.Status;
+
+/**
+ * Developer columns selected without loading the entity. Columns that were not selected are {@code null}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeveloperView(
+    Integer id,
+    String firstName,
+    String lastName,
+    String email,
+    String speciality,
+    Status status
+) {
+}
@@ -0,0 +1,4 @@
+package org.example.qafordevs.dto;
+
+public record ErrorDto(int status, String message) {
+}
@@ -0,0 +1,53 @@
+package org.example.qafordevs.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * A deleted developer moved out of {@code developers} by the archiver, under its original id.
+ * The email is not unique here since it may have been taken by a new developer since.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developers_archive")
+public class ArchivedDeveloperEntity {
+
+    @Id
+    private Integer id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String speciality;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private Status status;
+
+    private Long version;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
+    public DeveloperEntity toDeveloper() {
+        return DeveloperEntity.builder()
+            .id(id)
+            .firstName(firstName)
+            .lastName(lastName)
+            .email(email)
+            .speciality(speciality)
+            .status(status)
+            .version(version)
+            .build();
+    }
+
+}
@@ -5,14 +5,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "developers")
+@Table(
+    name = "developers",
+    uniqueConstraints = @UniqueConstraint(name = DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+    indexes = @Index(name = DeveloperEntity.SPECIALITY_STATUS_INDEX, columnList = "speciality, status")
+)
 public class DeveloperEntity {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_developers_email";
+    public static final String SPECIALITY_STATUS_INDEX = "idx_developers_speciality_status";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -23,6 +33,14 @@ public class DeveloperEntity {
     private String speciality;
 
     @Enumerated(EnumType.STRING)
+    // the migrations declare VARCHAR, which validation would otherwise compare with a native enum type
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Status status;
 
+    /**
+     * Incremented by every update, an update that names a version only applies while the row is still at it.
+     */
+    @Version
+    private Long version;
+
 }
@@ -0,0 +1,62 @@
+package org.example.qafordevs.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+
+import java.time.Instant;
+
+/**
+ * One developer mutation, written in the transaction of the mutation itself.
+ * <p>
+ * The generated id follows insert order, not commit order, so consumers resume from {@link #commitSequence}
+ * instead. It is assigned after the row committed, see {@code DeveloperOutboxSequencer}.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "developer_outbox",
+    indexes = @Index(name = DeveloperOutboxEntity.PUBLISHED_AT_INDEX, columnList = "published_at")
+)
+public class DeveloperOutboxEntity {
+
+    public static final String PUBLISHED_AT_INDEX = "idx_developer_outbox_published_at";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private DeveloperChangedEvent.Type type;
+
+    @Column(name = "developer_id")
+    private Integer developerId;
+
+    /**
+     * Developer state after the change as JSON, {@code null} when the change did not carry it.
+     */
+    @Column(length = 4000)
+    private String payload;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    /**
+     * Position in the change stream, {@code null} until the row is sequenced.
+     */
+    @Column(name = "commit_sequence")
+    private Long commitSequence;
+
+}
@@ -0,0 +1,46 @@
+package org.example.qafordevs.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code developers} table, the JPA mapping stays {@link DeveloperEntity}.
+ */
+@Table("developers")
+public record DeveloperRow(
+    @Id Integer id,
+    String firstName,
+    String lastName,
+    String email,
+    String speciality,
+    Status status,
+    @Version Long version
+) {
+
+    public DeveloperRow withId(Integer id) {
+        return new DeveloperRow(id, firstName, lastName, email, speciality, status, version);
+    }
+
+    public DeveloperRow withVersion(Long version) {
+        return new DeveloperRow(id, firstName, lastName, email, speciality, status, version);
+    }
+
+    public DeveloperEntity toEntity() {
+        return DeveloperEntity.builder()
+            .id(id)
+            .firstName(firstName)
+            .lastName(lastName)
+            .email(email)
+            .speciality(speciality)
+            .status(status)
+            .version(version)
+            .build();
+    }
+
+    public static DeveloperRow fromEntity(DeveloperEntity entity) {
+        return new DeveloperRow(entity.getId(), entity.getFirstName(), entity.getLastName(),
+            entity.getEmail(), entity.getSpeciality(), entity.getStatus(), entity.getVersion());
+    }
+
+}
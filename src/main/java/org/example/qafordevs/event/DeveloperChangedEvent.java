@@ -0,0 +1,37 @@
+package org.example.qafordevs.event;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+
+/**
+ * Published by the developer service after each mutation.
+ *
+ * @param type      kind of mutation
+ * @param id        id of the changed developer
+ * @param developer state after the mutation, {@code null} when it was not loaded
+ */
+public record DeveloperChangedEvent(Type type, Integer id, DeveloperEntity developer) {
+
+    public static DeveloperChangedEvent created(DeveloperEntity developer) {
+        return new DeveloperChangedEvent(Type.CREATED, developer.getId(), developer);
+    }
+
+    public static DeveloperChangedEvent updated(DeveloperEntity developer) {
+        return new DeveloperChangedEvent(Type.UPDATED, developer.getId(), developer);
+    }
+
+    public static DeveloperChangedEvent deactivated(Integer id, DeveloperEntity developer) {
+        return new DeveloperChangedEvent(Type.DEACTIVATED, id, developer);
+    }
+
+    public static DeveloperChangedEvent deleted(Integer id) {
+        return new DeveloperChangedEvent(Type.DELETED, id, null);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        DELETED
+    }
+
+}
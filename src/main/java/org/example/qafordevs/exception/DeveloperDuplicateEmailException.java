@@ -2,8 +2,26 @@ package org.example.qafordevs.exception;
 
 public class DeveloperDuplicateEmailException extends RuntimeException {
 
+    private final String email;
+
     public DeveloperDuplicateEmailException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.email = null;
+    }
+
+    private DeveloperDuplicateEmailException(String message, String email) {
+        super(message, null, false, false);
+        this.email = email;
+    }
+
+    public static DeveloperDuplicateEmailException forEmail(String email) {
+        return new DeveloperDuplicateEmailException(null, email);
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message == null ? "Developer with email " + email + " already exists" : message;
     }
 
 }
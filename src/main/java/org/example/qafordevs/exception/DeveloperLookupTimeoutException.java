@@ -0,0 +1,9 @@
+package org.example.qafordevs.exception;
+
+public class DeveloperLookupTimeoutException extends RuntimeException {
+
+    public DeveloperLookupTimeoutException(String message) {
+        super(message, null, false, false);
+    }
+
+}
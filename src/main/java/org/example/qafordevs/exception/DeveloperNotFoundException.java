@@ -2,8 +2,40 @@ package org.example.qafordevs.exception;
 
 public class DeveloperNotFoundException extends RuntimeException {
 
+    private final String attribute;
+    private final Object value;
+
     public DeveloperNotFoundException(String message) {
-        super(message);
+        // a miss is an expected outcome, filling in its stack trace would only cost time
+        super(message, null, false, false);
+        this.attribute = null;
+        this.value = null;
+    }
+
+    private DeveloperNotFoundException(String attribute, Object value) {
+        super(null, null, false, false);
+        this.attribute = attribute;
+        this.value = value;
+    }
+
+    public static DeveloperNotFoundException byId(Integer id) {
+        return new DeveloperNotFoundException("id", id);
+    }
+
+    public static DeveloperNotFoundException byEmail(String email) {
+        return new DeveloperNotFoundException("email", email);
+    }
+
+    /**
+     * Built on first access, most misses are turned into a status code without the message ever being read.
+     */
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        if (message == null && attribute != null) {
+            return "Developer with " + attribute + " " + value + " not found";
+        }
+        return message;
     }
 
 }
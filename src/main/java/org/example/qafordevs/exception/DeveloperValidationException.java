@@ -0,0 +1,12 @@
+package org.example.qafordevs.exception;
+
+/**
+ * A request argument out of its allowed range or format, reported to the caller as a bad request.
+ */
+public class DeveloperValidationException extends RuntimeException {
+
+    public DeveloperValidationException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,9 @@
+package org.example.qafordevs.exception;
+
+public class DeveloperVersionConflictException extends RuntimeException {
+
+    public DeveloperVersionConflictException(String message) {
+        super(message, null, false, false);
+    }
+
+}
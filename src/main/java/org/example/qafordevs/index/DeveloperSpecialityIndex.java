@@ -0,0 +1,193 @@
+package org.example.qafordevs.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active developers grouped by speciality.
+ * <p>
+ * Every speciality maps to an array of compact immutable records sorted by id. An array is never modified once
+ * published, a change replaces it with a copy that has one developer inserted or removed at its binary search
+ * position, so reads never lock and a change costs one copy of its speciality. Writes are serialized. The index is loaded page by page once the application
+ * is ready and can be rebuilt with {@link #build()}; changes published while it loads are queued and
+ * replayed on top of the loaded state. Until the first build completes
+ * {@link #getActiveBySpeciality(String)} returns empty and callers go to the database.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.speciality-index", name = "enabled", havingValue = "true")
+public class DeveloperSpecialityIndex {
+
+    private static final Comparator<IndexedDeveloper> BY_ID = Comparator.comparing(IndexedDeveloper::id);
+    private static final IndexedDeveloper[] NONE = new IndexedDeveloper[0];
+
+    private final DeveloperRepository developerRepository;
+    private final int buildPageSize;
+
+    private volatile Map<String, IndexedDeveloper[]> developersBySpeciality = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    // guarded by writeLock
+    private Map<Integer, String> specialityById = new HashMap<>();
+    // guarded by writeLock, not null while the index is being built
+    private List<DeveloperChangedEvent> eventsDuringBuild;
+    private volatile boolean ready;
+
+    public DeveloperSpecialityIndex(DeveloperRepository developerRepository, DeveloperProperties developerProperties) {
+        this.developerRepository = developerRepository;
+        this.buildPageSize = developerProperties.getSpecialityIndex().getBuildPageSize();
+    }
+
+    /**
+     * @return new entities on every call, callers may modify them
+     */
+    public Optional<List<DeveloperEntity>> getActiveBySpeciality(String speciality) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(developersBySpeciality.getOrDefault(speciality, NONE))
+            .map(IndexedDeveloper::toEntity)
+            .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            eventsDuringBuild = new ArrayList<>();
+        }
+        Map<String, List<IndexedDeveloper>> loaded = new HashMap<>();
+        int afterId = 0;
+        int count = 0;
+        List<DeveloperEntity> page;
+        do {
+            page = developerRepository.findAllActiveAfterId(afterId, PageRequest.ofSize(buildPageSize));
+            for (DeveloperEntity developer : page) {
+                if (Objects.nonNull(developer.getSpeciality())) {
+                    loaded.computeIfAbsent(developer.getSpeciality(), key -> new ArrayList<>())
+                        .add(IndexedDeveloper.of(developer));
+                    count++;
+                }
+                afterId = developer.getId();
+            }
+        } while (page.size() == buildPageSize);
+
+        synchronized (writeLock) {
+            Map<String, IndexedDeveloper[]> bySpeciality = new ConcurrentHashMap<>();
+            Map<Integer, String> byId = new HashMap<>();
+            loaded.forEach((speciality, developers) -> {
+                // pages come in id order, so every speciality is sorted
+                bySpeciality.put(speciality, developers.toArray(IndexedDeveloper[]::new));
+                developers.forEach(developer -> byId.put(developer.id(), speciality));
+            });
+            developersBySpeciality = bySpeciality;
+            specialityById = byId;
+            eventsDuringBuild.forEach(this::apply);
+            eventsDuringBuild = null;
+            ready = true;
+        }
+        log.info("Speciality index built with {} developers in {} specialities in {} ms",
+            count, loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        synchronized (writeLock) {
+            if (Objects.nonNull(eventsDuringBuild)) {
+                eventsDuringBuild.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(DeveloperChangedEvent event) {
+        remove(event.id());
+        DeveloperEntity developer = event.developer();
+        if (event.type() != DeveloperChangedEvent.Type.DELETED
+            && Objects.nonNull(developer)
+            && developer.getStatus() == Status.ACTIVE
+            && Objects.nonNull(developer.getSpeciality())) {
+            add(IndexedDeveloper.of(developer));
+        }
+    }
+
+    private void add(IndexedDeveloper developer) {
+        IndexedDeveloper[] developers = developersBySpeciality.getOrDefault(developer.speciality(), NONE);
+        // the developer has just been removed, so it is never found
+        int insertAt = -Arrays.binarySearch(developers, developer, BY_ID) - 1;
+        IndexedDeveloper[] copy = new IndexedDeveloper[developers.length + 1];
+        System.arraycopy(developers, 0, copy, 0, insertAt);
+        copy[insertAt] = developer;
+        System.arraycopy(developers, insertAt, copy, insertAt + 1, developers.length - insertAt);
+        developersBySpeciality.put(developer.speciality(), copy);
+        specialityById.put(developer.id(), developer.speciality());
+    }
+
+    private void remove(Integer id) {
+        String speciality = specialityById.remove(id);
+        if (Objects.isNull(speciality)) {
+            return;
+        }
+        IndexedDeveloper[] developers = developersBySpeciality.getOrDefault(speciality, NONE);
+        int position = Arrays.binarySearch(developers, new IndexedDeveloper(id, null, null, null, null, null), BY_ID);
+        if (position < 0) {
+            return;
+        }
+        if (developers.length == 1) {
+            developersBySpeciality.remove(speciality);
+            return;
+        }
+        IndexedDeveloper[] copy = new IndexedDeveloper[developers.length - 1];
+        System.arraycopy(developers, 0, copy, 0, position);
+        System.arraycopy(developers, position + 1, copy, position, developers.length - position - 1);
+        developersBySpeciality.put(speciality, copy);
+    }
+
+    /**
+     * Only active developers are indexed, so the status is not kept.
+     */
+    private record IndexedDeveloper(Integer id, String firstName, String lastName, String email, String speciality,
+                                    Long version) {
+
+        static IndexedDeveloper of(DeveloperEntity developer) {
+            return new IndexedDeveloper(developer.getId(), developer.getFirstName(), developer.getLastName(),
+                developer.getEmail(), developer.getSpeciality(), developer.getVersion());
+        }
+
+        DeveloperEntity toEntity() {
+            return DeveloperEntity.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .speciality(speciality)
+                .status(Status.ACTIVE)
+                .version(version)
+                .build();
+        }
+
+    }
+
+}
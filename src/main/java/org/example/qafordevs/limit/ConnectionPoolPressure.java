@@ -0,0 +1,103 @@
+package org.example.qafordevs.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells whether the connection pools are overloaded, from the Hikari metrics sampled by a background thread.
+ * <p>
+ * A pool is overloaded while too many threads wait for a connection, or while the mean acquire time over the last
+ * sample interval is above the limit. The mean comes from the difference of the cumulative
+ * {@code hikaricp.connections.acquire} timer between two samples, so it follows the load within one interval.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.limits", name = "enabled", havingValue = "true")
+public class ConnectionPoolPressure implements DisposableBean {
+
+    public static final String OVERLOADED_GAUGE = "developer.limits.pool.overloaded";
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    private static final String PENDING_GAUGE = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxPendingThreads;
+    private final long maxAcquireNanos;
+    private final long sampleIntervalMillis;
+    private final Thread sampler;
+
+    private volatile boolean overloaded;
+    private double lastTotalNanos;
+    private long lastCount;
+
+    public ConnectionPoolPressure(MeterRegistry meterRegistry, DeveloperProperties developerProperties) {
+        DeveloperProperties.Limits.Shedding shedding = developerProperties.getLimits().getShedding();
+        this.meterRegistry = meterRegistry;
+        this.maxPendingThreads = shedding.getMaxPendingThreads();
+        this.maxAcquireNanos = shedding.getMaxAcquireTime().toNanos();
+        this.sampleIntervalMillis = shedding.getSampleInterval().toMillis();
+        Gauge.builder(OVERLOADED_GAUGE, this, pressure -> pressure.isOverloaded() ? 1 : 0)
+            .description("Whether sheddable developer operations are being rejected")
+            .register(meterRegistry);
+        this.sampler = Thread.ofPlatform().name("developer-pool-pressure").daemon().start(this::run);
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sampler.interrupt();
+        sampler.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    sample();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to sample connection pool metrics", e);
+                }
+                Thread.sleep(sampleIntervalMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sample() {
+        double totalNanos = 0;
+        long count = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            count += timer.count();
+        }
+        double pending = 0;
+        for (Gauge gauge : meterRegistry.find(PENDING_GAUGE).gauges()) {
+            pending += gauge.value();
+        }
+
+        long acquired = count - lastCount;
+        double meanAcquireNanos = acquired > 0 ? (totalNanos - lastTotalNanos) / acquired : 0;
+        lastTotalNanos = totalNanos;
+        lastCount = count;
+
+        boolean nowOverloaded = pending >= maxPendingThreads || meanAcquireNanos > maxAcquireNanos;
+        if (nowOverloaded != overloaded) {
+            log.debug("Connection pool overloaded={}, {} pending, {} ms mean acquire",
+                nowOverloaded, (long) pending, meanAcquireNanos / 1_000_000);
+        }
+        overloaded = nowOverloaded;
+    }
+
+}
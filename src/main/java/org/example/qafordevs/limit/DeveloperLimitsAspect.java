@@ -0,0 +1,132 @@
+package org.example.qafordevs.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits {@code DeveloperService} calls through per-method token buckets, shared bulkheads and pool-based load
+ * shedding, in that order. A rejected call fails with {@link RejectedExecutionException} before it reaches the
+ * service and is counted by method and reason.
+ * <p>
+ * Runs ahead of the transaction advice, so a rejected call never opens a transaction or asks the pool for a
+ * connection. Methods without configured limits pass straight through.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "developers.limits", name = "enabled", havingValue = "true")
+public class DeveloperLimitsAspect {
+
+    public static final String REJECTED_COUNTER = "developer.limits.rejected";
+    public static final String BULKHEAD_AVAILABLE_GAUGE = "developer.limits.bulkhead.available";
+
+    private static final OperationLimits UNLIMITED = new OperationLimits(null, null, null, false, Map.of());
+
+    private final DeveloperProperties.Limits limits;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionPoolPressure poolPressure;
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+    private final Map<String, OperationLimits> operations = new ConcurrentHashMap<>();
+
+    public DeveloperLimitsAspect(DeveloperProperties developerProperties, MeterRegistry meterRegistry,
+                                 ConnectionPoolPressure poolPressure) {
+        this.limits = developerProperties.getLimits();
+        this.meterRegistry = meterRegistry;
+        this.poolPressure = poolPressure;
+        limits.getBulkheads().forEach((name, bulkhead) -> {
+            Semaphore permits = new Semaphore(bulkhead.getMaxConcurrent());
+            bulkheads.put(name, new Bulkhead(permits, bulkhead.getMaxWait().toNanos()));
+            Gauge.builder(BULKHEAD_AVAILABLE_GAUGE, permits, Semaphore::availablePermits)
+                .description("Free slots of a developer service bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        });
+    }
+
+    @Around("execution(* org.example.qafordevs.service.DeveloperService.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationLimits operation = operations.computeIfAbsent(joinPoint.getSignature().getName(), this::operation);
+        if (operation == UNLIMITED) {
+            return joinPoint.proceed();
+        }
+        if (Objects.nonNull(operation.rate()) && !operation.rate().tryAcquire()) {
+            throw operation.reject("rate-limit");
+        }
+        if (operation.sheddable() && poolPressure.isOverloaded()) {
+            throw operation.reject("shed");
+        }
+        Bulkhead bulkhead = operation.bulkhead();
+        if (Objects.isNull(bulkhead)) {
+            return joinPoint.proceed();
+        }
+        if (!bulkhead.permits().tryAcquire(bulkhead.maxWaitNanos(), TimeUnit.NANOSECONDS)) {
+            throw operation.reject("bulkhead-full");
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.permits().release();
+        }
+    }
+
+    private OperationLimits operation(String method) {
+        DeveloperProperties.Limits.Operation operation = limits.getOperations().get(method);
+        if (Objects.isNull(operation)) {
+            return UNLIMITED;
+        }
+        TokenBucket rate = null;
+        if (operation.getRatePerSecond() > 0) {
+            int burst = operation.getBurst() > 0 ? operation.getBurst() : (int) Math.ceil(operation.getRatePerSecond());
+            rate = new TokenBucket(operation.getRatePerSecond(), burst, System::nanoTime);
+        }
+        Bulkhead bulkhead = null;
+        if (Objects.nonNull(operation.getBulkhead())) {
+            bulkhead = bulkheads.get(operation.getBulkhead());
+            if (Objects.isNull(bulkhead)) {
+                throw new IllegalStateException(String.format(
+                    "Operation %s refers to unknown bulkhead %s", method, operation.getBulkhead()));
+            }
+        }
+        Map<String, Counter> rejections = new HashMap<>();
+        for (String reason : new String[]{"rate-limit", "shed", "bulkhead-full"}) {
+            rejections.put(reason, Counter.builder(REJECTED_COUNTER)
+                .description("Developer service calls rejected before they ran")
+                .tag("method", method)
+                .tag("reason", reason)
+                .register(meterRegistry));
+        }
+        return new OperationLimits(method, rate, bulkhead, operation.isSheddable(), rejections);
+    }
+
+    private record Bulkhead(Semaphore permits, long maxWaitNanos) {
+    }
+
+    private record OperationLimits(String method, TokenBucket rate, Bulkhead bulkhead, boolean sheddable,
+                                   Map<String, Counter> rejections) {
+
+        RejectedExecutionException reject(String reason) {
+            rejections.get(reason).increment();
+            return new RejectedExecutionException(String.format("Developer service is overloaded, %s rejected by %s",
+                method, reason));
+        }
+
+    }
+
+}
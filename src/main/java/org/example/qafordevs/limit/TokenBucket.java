@@ -0,0 +1,37 @@
+package org.example.qafordevs.limit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled continuously at {@code ratePerSecond}, holding at most {@code burst} tokens.
+ * It starts full.
+ */
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, int burst, LongSupplier nanoTime) {
+        this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+        this.capacity = burst;
+        this.nanoTime = nanoTime;
+        this.tokens = burst;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.example.qafordevs.lookup;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.exception.DeveloperLookupTimeoutException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Loads developers by id in batches.
+ * <p>
+ * The first lookup opens a batch window, lookups arriving within it are sent together as one
+ * {@code findAllById} IN query by a background thread. Each caller blocks until its batch is loaded, at most
+ * for the lookup wait timeout.
+ */
+@Component
+@ConditionalOnProperty(prefix = "developers.lookup", name = "batch-enabled", havingValue = "true")
+public class DeveloperBatchLoader implements DisposableBean {
+
+    private final DeveloperRepository developerRepository;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final Duration waitTimeout;
+    private final LinkedBlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+    private final Thread worker;
+
+    public DeveloperBatchLoader(DeveloperRepository developerRepository, DeveloperProperties developerProperties) {
+        this.developerRepository = developerRepository;
+        this.batchWindowNanos = developerProperties.getLookup().getBatchWindow().toNanos();
+        this.maxBatchSize = developerProperties.getLookup().getMaxBatchSize();
+        this.waitTimeout = developerProperties.getLookup().getWaitTimeout();
+        this.worker = Thread.ofPlatform().name("developer-batch-loader").daemon().start(this::run);
+    }
+
+    public DeveloperEntity load(Integer id) {
+        return find(id).orElseThrow(() -> DeveloperNotFoundException.byId(id));
+    }
+
+    /**
+     * Same as {@link #load(Integer)} but a missing developer is an empty result rather than an exception.
+     */
+    public Optional<DeveloperEntity> find(Integer id) {
+        Request request = new Request(id, new CompletableFuture<>());
+        requests.add(request);
+        try {
+            return Optional.ofNullable(request.result().get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            // still queued requests are not worth loading any more
+            requests.remove(request);
+            throw new DeveloperLookupTimeoutException(
+                String.format("Lookup of developer %s did not complete within %s", id, waitTimeout));
+        } catch (InterruptedException e) {
+            requests.remove(request);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        List<Request> pending = new ArrayList<>();
+        requests.drainTo(pending);
+        pending.forEach(request -> request.result().completeExceptionally(
+            new IllegalStateException("Developer batch loader is shut down")
+        ));
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(requests.take());
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    Request next = requests.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                execute(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        batch.forEach(request -> request.result().completeExceptionally(
+            new IllegalStateException("Developer batch loader is shut down")
+        ));
+    }
+
+    private void execute(List<Request> batch) {
+        Map<Integer, DeveloperEntity> loaded = new HashMap<>();
+        try {
+            developerRepository.findAllById(batch.stream().map(Request::id).distinct().toList())
+                .forEach(developer -> loaded.put(developer.getId(), developer));
+            // every caller gets its own copy, the same id may be asked for more than once in a batch
+            for (Request request : batch) {
+                DeveloperEntity developer = loaded.get(request.id());
+                request.result().complete(developer == null ? null : developer.toBuilder().build());
+            }
+        } catch (Throwable e) {
+            // errors included, so that neither the callers nor the worker thread are lost
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        }
+    }
+
+    private record Request(Integer id, CompletableFuture<DeveloperEntity> result) {
+    }
+
+}
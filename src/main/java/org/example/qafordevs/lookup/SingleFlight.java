@@ -0,0 +1,81 @@
+package org.example.qafordevs.lookup;
+
+import org.example.qafordevs.exception.DeveloperLookupTimeoutException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets concurrent callers asking for the same key share one load.
+ * <p>
+ * The first caller runs the load on its own thread, callers arriving while it runs wait for it and get
+ * the same result or the same exception. Nothing is kept once the load completes, so this is not a cache.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    /**
+     * @param copier applied to the shared value for every caller but the one that loaded it,
+     *               so that mutable values are not shared between callers
+     */
+    public SingleFlight(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    /**
+     * @param timeout how long a caller waits for a load started by another caller before giving up with
+     *                {@link DeveloperLookupTimeoutException}, the load itself is not interrupted
+     */
+    public V execute(K key, Supplier<V> loader, Duration timeout) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return copier.apply(await(key, running, timeout));
+        }
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // errors included, a waiter must never be left with a future nobody completes
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <K, V> V await(K key, CompletableFuture<V> running, Duration timeout) {
+        try {
+            return running.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DeveloperLookupTimeoutException(
+                String.format("Lookup of %s did not complete within %s", key, timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+}
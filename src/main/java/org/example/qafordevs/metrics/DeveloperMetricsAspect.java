@@ -0,0 +1,101 @@
+package org.example.qafordevs.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@code DeveloperService} call by method and outcome and records how many rows
+ * each {@code DeveloperRepository} call returned or changed. Repository call timings come from
+ * Spring Boot's {@code spring.data.repository.invocations} metric.
+ * <p>
+ * Meters are looked up once per method and outcome and reused afterwards.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DeveloperMetricsAspect {
+
+    public static final String SERVICE_TIMER = "developer.service";
+    public static final String REPOSITORY_ROWS = "developer.repository.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.example.qafordevs.service.DeveloperService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof Optional<?> optional && optional.isEmpty()) {
+                outcome = "not-found";
+            }
+            return result;
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            timer(joinPoint.getSignature().getName(), outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @AfterReturning(pointcut = "target(org.example.qafordevs.repository.DeveloperRepository)", returning = "result")
+    public void countRepositoryRows(JoinPoint joinPoint, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else if (result instanceof Integer affected) {
+            rows = affected;
+        } else {
+            // streams, booleans, counts and void are not row results
+            return;
+        }
+        rowSummaries.computeIfAbsent(joinPoint.getSignature().getName(), method -> DistributionSummary.builder(REPOSITORY_ROWS)
+                .description("Rows returned or changed by a developer repository call")
+                .tag("method", method)
+                .register(meterRegistry))
+            .record(rows);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(method, outcome), key -> Timer.builder(SERVICE_TIMER)
+            .description("Developer service calls")
+            .tag("method", key.method())
+            .tag("outcome", key.outcome())
+            .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof DeveloperNotFoundException) {
+            return "not-found";
+        }
+        if (e instanceof DeveloperDuplicateEmailException) {
+            return "duplicate-email";
+        }
+        return "error";
+    }
+
+    private record TimerKey(String method, String outcome) {
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.example.qafordevs.outbox;
+
+import org.example.qafordevs.dto.DeveloperChange;
+
+import java.util.List;
+
+/**
+ * Destination of the developer change stream. Changes arrive in sequence order and at least once,
+ * a batch is resent when publishing it throws.
+ */
+public interface DeveloperChangeSink {
+
+    void publish(List<DeveloperChange> changes) throws Exception;
+
+}
@@ -0,0 +1,62 @@
+package org.example.qafordevs.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes unpublished outbox rows to every {@link DeveloperChangeSink} in batches.
+ * <p>
+ * Rows are published in commit sequence order once {@link DeveloperOutboxSequencer} has sequenced them. A batch
+ * is marked published only after all sinks took it, so a failure resends it on the next run.
+ * The relay does not lock rows and is meant to run on one instance.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.outbox", name = "relay-enabled", havingValue = "true")
+public class DeveloperOutboxRelay {
+
+    private final DeveloperOutboxRepository outboxRepository;
+    private final List<DeveloperChangeSink> sinks;
+    private final int batchSize;
+
+    public DeveloperOutboxRelay(DeveloperOutboxRepository outboxRepository, List<DeveloperChangeSink> sinks,
+                                DeveloperProperties developerProperties) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.batchSize = developerProperties.getOutbox().getBatchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${developers.outbox.relay-interval:PT1S}",
+        initialDelayString = "${developers.outbox.relay-interval:PT1S}")
+    public void relay() {
+        List<DeveloperOutboxEntity> batch;
+        do {
+            batch = outboxRepository.findAllUnpublished(PageRequest.ofSize(batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<DeveloperChange> changes = batch.stream().map(DeveloperChange::fromOutbox).toList();
+            for (DeveloperChangeSink sink : sinks) {
+                try {
+                    sink.publish(changes);
+                } catch (Exception e) {
+                    log.warn("Sink {} failed to take {} developer changes, retrying on the next run",
+                        sink.getClass().getSimpleName(), changes.size(), e);
+                    return;
+                }
+            }
+            outboxRepository.markPublished(batch.stream().map(DeveloperOutboxEntity::getId).toList(), Instant.now());
+        } while (batch.size() == batchSize);
+    }
+
+}
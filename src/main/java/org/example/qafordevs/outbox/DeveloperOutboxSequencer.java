@@ -0,0 +1,76 @@
+package org.example.qafordevs.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Gives committed outbox rows their position in the change stream.
+ * <p>
+ * Outbox ids are taken when a row is inserted, so a transaction that commits late leaves a row behind ids a
+ * consumer may already have read past. Sequencing only sees committed rows and continues after the highest
+ * assigned position, so a row that commits late is appended after everything a consumer has seen. Runs on
+ * several instances do not interleave: the unique index on the position fails the second one, which retries
+ * on its next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.outbox", name = "enabled", havingValue = "true")
+public class DeveloperOutboxSequencer {
+
+    private final DeveloperOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public DeveloperOutboxSequencer(DeveloperOutboxRepository outboxRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    DeveloperProperties developerProperties) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = developerProperties.getOutbox().getBatchSize();
+    }
+
+    /**
+     * @return rows sequenced by this run
+     */
+    @Scheduled(fixedDelayString = "${developers.outbox.sequence-interval:PT0.1S}",
+        initialDelayString = "${developers.outbox.sequence-interval:PT0.1S}")
+    public int assignSequences() {
+        int sequenced = 0;
+        while (true) {
+            Integer assigned;
+            try {
+                assigned = transactionTemplate.execute(status -> sequenceBatch());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Outbox rows were sequenced concurrently, retrying on the next run", e);
+                break;
+            }
+            sequenced += Objects.requireNonNullElse(assigned, 0);
+            if (Objects.isNull(assigned) || assigned < batchSize) {
+                break;
+            }
+        }
+        return sequenced;
+    }
+
+    private int sequenceBatch() {
+        List<Long> ids = outboxRepository.findUnsequencedIds(PageRequest.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long next = Objects.requireNonNullElse(outboxRepository.findMaxCommitSequence(), 0L) + 1;
+        outboxRepository.assignCommitSequences(ids, next);
+        return ids.size();
+    }
+
+}
@@ -0,0 +1,109 @@
+package org.example.qafordevs.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.dto.DeveloperDto;
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records every developer change in the outbox table.
+ * <p>
+ * Changes published inside a transaction are collected and inserted with one JDBC batch right before that
+ * transaction commits, so the outbox rows commit or roll back together with the change and a bulk operation
+ * costs one round trip instead of one per developer. Changes published outside a transaction are not recorded
+ * by the listener: the reactive service writes its rows through {@link #write(DeveloperChangedEvent)} inside
+ * its own reactive transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "developers.outbox", name = "enabled", havingValue = "true")
+public class DeveloperOutboxWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO developer_outbox (type, developer_id, payload, created_at) " +
+        "VALUES (:type, :developerId, :payload, :createdAt)";
+
+    private final DeveloperOutboxRepository outboxRepository;
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pendingChanges().add(toOutbox(event));
+    }
+
+    /**
+     * Inserts the change through R2DBC, to be composed into the reactive transaction that made it.
+     */
+    public Mono<Void> write(DeveloperChangedEvent event) {
+        DeveloperOutboxEntity outbox = toOutbox(event);
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SQL)
+            .bind("type", outbox.getType().name())
+            .bind("developerId", outbox.getDeveloperId())
+            .bind("createdAt", outbox.getCreatedAt().atOffset(ZoneOffset.UTC));
+        insert = Objects.isNull(outbox.getPayload())
+            ? insert.bindNull("payload", String.class)
+            : insert.bind("payload", outbox.getPayload());
+        return insert.fetch().rowsUpdated().then();
+    }
+
+    // synchronizations are suspended with their transaction, so a nested REQUIRES_NEW one gets its own batch
+    private List<DeveloperOutboxEntity> pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending.changes;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.changes;
+    }
+
+    private DeveloperOutboxEntity toOutbox(DeveloperChangedEvent event) {
+        return DeveloperOutboxEntity.builder()
+            .type(event.type())
+            .developerId(event.id())
+            .payload(Objects.isNull(event.developer()) ? null : toJson(DeveloperDto.fromEntity(event.developer())))
+            .createdAt(Instant.now())
+            .build();
+    }
+
+    private String toJson(DeveloperDto developer) {
+        try {
+            return objectMapper.writeValueAsString(developer);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<DeveloperOutboxEntity> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            outboxRepository.insertAll(changes);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.example.qafordevs.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends published changes to a file, one JSON object per line.
+ */
+@Component
+@ConditionalOnProperty(prefix = "developers.outbox", name = "sink", havingValue = "file")
+public class FileDeveloperChangeSink implements DeveloperChangeSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileDeveloperChangeSink(ObjectMapper objectMapper, DeveloperProperties developerProperties) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(developerProperties.getOutbox().getFile());
+    }
+
+    @Override
+    public void publish(List<DeveloperChange> changes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (DeveloperChange change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.newLine();
+            }
+        }
+    }
+
+}
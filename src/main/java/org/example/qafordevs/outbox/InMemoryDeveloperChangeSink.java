@@ -0,0 +1,32 @@
+package org.example.qafordevs.outbox;
+
+import org.example.qafordevs.dto.DeveloperChange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps published changes in memory, meant for tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(prefix = "developers.outbox", name = "sink", havingValue = "memory")
+public class InMemoryDeveloperChangeSink implements DeveloperChangeSink {
+
+    private final List<DeveloperChange> changes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<DeveloperChange> changes) {
+        this.changes.addAll(changes);
+    }
+
+    public List<DeveloperChange> getChanges() {
+        return List.copyOf(changes);
+    }
+
+    public void clear() {
+        changes.clear();
+    }
+
+}
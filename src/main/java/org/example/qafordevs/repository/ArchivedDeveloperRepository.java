@@ -0,0 +1,48 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.ArchivedDeveloperEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedDeveloperRepository extends JpaRepository<ArchivedDeveloperEntity, Integer> {
+
+    /**
+     * Copies the given developers into the archive in one INSERT ... SELECT, the caller removes them from
+     * {@code developers} in the same transaction.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = "INSERT INTO developers_archive " +
+        "(id, first_name, last_name, email, speciality, status, version, archived_at) " +
+        "SELECT id, first_name, last_name, email, speciality, status, version, :archivedAt " +
+        "FROM developers WHERE id IN (:ids)")
+    int copyFromDevelopers(@Param("ids") Collection<Integer> ids, @Param("archivedAt") Instant archivedAt);
+
+    /**
+     * Copies an archived developer back into {@code developers} with its id and version, the caller removes it
+     * from the archive in the same transaction.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = "INSERT INTO developers " +
+        "(id, first_name, last_name, email, speciality, status, version) " +
+        "SELECT id, first_name, last_name, email, speciality, status, version " +
+        "FROM developers_archive WHERE id = :id")
+    int copyToDevelopers(@Param("id") Integer id);
+
+    @Query("SELECT archived.id FROM ArchivedDeveloperEntity archived WHERE archived.id IN ?1")
+    List<Integer> findExistingIds(Collection<Integer> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedDeveloperEntity archived WHERE archived.id = ?1")
+    int removeById(Integer id);
+
+}
@@ -0,0 +1,14 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+
+import java.util.List;
+
+public interface DeveloperBulkRepository {
+
+    /**
+     * Inserts developers with a single JDBC batch and sets the generated ids on them.
+     */
+    List<DeveloperEntity> insertAll(List<DeveloperEntity> developers);
+
+}
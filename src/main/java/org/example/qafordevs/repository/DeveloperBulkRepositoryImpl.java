@@ -0,0 +1,63 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+public class DeveloperBulkRepositoryImpl implements DeveloperBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO developers (first_name, last_name, email, speciality, status, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeveloperBulkRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public List<DeveloperEntity> insertAll(List<DeveloperEntity> developers) {
+        if (developers.isEmpty()) {
+            return developers;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    DeveloperEntity developer = developers.get(i);
+                    ps.setString(1, developer.getFirstName());
+                    ps.setString(2, developer.getLastName());
+                    ps.setString(3, developer.getEmail());
+                    ps.setString(4, developer.getSpeciality());
+                    ps.setString(5, developer.getStatus() == null ? null : developer.getStatus().name());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return developers.size();
+                }
+            },
+            keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < developers.size(); i++) {
+            developers.get(i).setId(((Number) keys.get(i).get("id")).intValue());
+            developers.get(i).setVersion(0L);
+        }
+        return developers;
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+
+import java.util.List;
+
+public interface DeveloperOutboxBulkRepository {
+
+    /**
+     * Inserts outbox rows with a single JDBC batch, the generated ids are not read back.
+     */
+    void insertAll(List<DeveloperOutboxEntity> changes);
+
+    /**
+     * Sets consecutive commit sequences starting at {@code firstSequence} on the rows, in the order of {@code ids},
+     * with a single JDBC batch.
+     */
+    void assignCommitSequences(List<Long> ids, long firstSequence);
+
+}
@@ -0,0 +1,70 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public class DeveloperOutboxBulkRepositoryImpl implements DeveloperOutboxBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO developer_outbox (type, developer_id, payload, created_at) VALUES (?, ?, ?, ?)";
+    private static final String ASSIGN_SEQUENCE_SQL = "UPDATE developer_outbox SET commit_sequence = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeveloperOutboxBulkRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<DeveloperOutboxEntity> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DeveloperOutboxEntity change = changes.get(i);
+                ps.setString(1, change.getType().name());
+                ps.setObject(2, change.getDeveloperId(), Types.INTEGER);
+                ps.setString(3, change.getPayload());
+                ps.setObject(4, change.getCreatedAt().atOffset(ZoneOffset.UTC));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void assignCommitSequences(List<Long> ids, long firstSequence) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_SEQUENCE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, firstSequence + i);
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeveloperOutboxRepository extends JpaRepository<DeveloperOutboxEntity, Long>, DeveloperOutboxBulkRepository {
+
+    @Query("SELECT outbox FROM DeveloperOutboxEntity outbox WHERE outbox.commitSequence > ?1 ORDER BY outbox.commitSequence")
+    List<DeveloperOutboxEntity> findAllAfterSequence(Long afterSequence, Pageable pageable);
+
+    @Query("SELECT outbox FROM DeveloperOutboxEntity outbox " +
+        "WHERE outbox.publishedAt IS NULL AND outbox.commitSequence IS NOT NULL ORDER BY outbox.commitSequence")
+    List<DeveloperOutboxEntity> findAllUnpublished(Pageable pageable);
+
+    /**
+     * Only rows committed before the query started are seen, uncommitted ones are sequenced by a later run.
+     */
+    @Query("SELECT outbox.id FROM DeveloperOutboxEntity outbox WHERE outbox.commitSequence IS NULL ORDER BY outbox.id")
+    List<Long> findUnsequencedIds(Pageable pageable);
+
+    @Query("SELECT MAX(outbox.commitSequence) FROM DeveloperOutboxEntity outbox")
+    Long findMaxCommitSequence();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperOutboxEntity outbox SET outbox.publishedAt = ?2 WHERE outbox.id IN ?1")
+    int markPublished(Collection<Long> ids, Instant publishedAt);
+
+}
@@ -0,0 +1,26 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperView;
+
+import java.util.List;
+import java.util.Set;
+
+public interface DeveloperProjectionRepository {
+
+    /**
+     * Selects only the requested columns of active developers, all of them when {@code fields} is empty.
+     *
+     * @param speciality only developers with this speciality, all specialities when {@code null}
+     */
+    List<DeveloperView> findAllActiveViews(String speciality, Set<DeveloperField> fields);
+
+    /**
+     * Fallback of the search index: active developers where every word starts a word of one of the names, the
+     * email or the speciality, that is starts the column or follows a space in it, ordered by id.
+     *
+     * @param words lower case words as split by {@code DeveloperSearchIndex.words}, LIKE wildcards are matched literally
+     */
+    List<DeveloperView> searchActiveByWords(List<String> words, int limit);
+
+}
@@ -0,0 +1,105 @@
+package org.example.qafordevs.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class DeveloperProjectionRepositoryImpl implements DeveloperProjectionRepository {
+
+    private static final List<String> SEARCHED_ATTRIBUTES = List.of("firstName", "lastName", "email", "speciality");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DeveloperView> findAllActiveViews(String speciality, Set<DeveloperField> fields) {
+        if (fields.isEmpty() || fields.containsAll(EnumSet.allOf(DeveloperField.class))) {
+            return findAllActiveViews(speciality);
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<DeveloperEntity> developers = query.from(DeveloperEntity.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (DeveloperField field : fields) {
+            selections.add(developers.get(field.getAttribute()).alias(field.name()));
+        }
+        query.multiselect(selections).where(activeWithSpeciality(builder, developers, speciality));
+
+        return entityManager.createQuery(query).getResultList().stream()
+            .map(tuple -> new DeveloperView(
+                value(tuple, fields, DeveloperField.ID, Integer.class),
+                value(tuple, fields, DeveloperField.FIRST_NAME, String.class),
+                value(tuple, fields, DeveloperField.LAST_NAME, String.class),
+                value(tuple, fields, DeveloperField.EMAIL, String.class),
+                value(tuple, fields, DeveloperField.SPECIALITY, String.class),
+                value(tuple, fields, DeveloperField.STATUS, Status.class)
+            ))
+            .toList();
+    }
+
+    @Override
+    public List<DeveloperView> searchActiveByWords(List<String> words, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DeveloperView> query = builder.createQuery(DeveloperView.class);
+        Root<DeveloperEntity> developers = query.from(DeveloperEntity.class);
+        List<Predicate> predicates = new ArrayList<>(words.size() + 1);
+        predicates.add(builder.equal(developers.get("status"), Status.ACTIVE));
+        for (String word : words) {
+            String escaped = word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            predicates.add(builder.or(SEARCHED_ATTRIBUTES.stream()
+                .map(attribute -> builder.lower(developers.<String>get(attribute)))
+                .flatMap(column -> Stream.of(
+                    builder.like(column, escaped + "%", '\\'),
+                    builder.like(column, "% " + escaped + "%", '\\')
+                ))
+                .toArray(Predicate[]::new)));
+        }
+        query.select(builder.construct(DeveloperView.class, Arrays.stream(DeveloperField.values())
+                .map(field -> developers.get(field.getAttribute()))
+                .toArray(Selection[]::new)))
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(builder.asc(developers.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<DeveloperView> findAllActiveViews(String speciality) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DeveloperView> query = builder.createQuery(DeveloperView.class);
+        Root<DeveloperEntity> developers = query.from(DeveloperEntity.class);
+        query.select(builder.construct(DeveloperView.class, Arrays.stream(DeveloperField.values())
+                .map(field -> developers.get(field.getAttribute()))
+                .toArray(Selection[]::new)))
+            .where(activeWithSpeciality(builder, developers, speciality));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static Predicate[] activeWithSpeciality(CriteriaBuilder builder, Root<DeveloperEntity> developers, String speciality) {
+        Predicate active = builder.equal(developers.get("status"), Status.ACTIVE);
+        if (Objects.isNull(speciality)) {
+            return new Predicate[]{active};
+        }
+        return new Predicate[]{active, builder.equal(developers.get("speciality"), speciality)};
+    }
+
+    private static <T> T value(Tuple tuple, Set<DeveloperField> fields, DeveloperField field, Class<T> type) {
+        return fields.contains(field) ? tuple.get(field.name(), type) : null;
+    }
+
+}
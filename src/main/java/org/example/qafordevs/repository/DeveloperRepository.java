@@ -1,17 +1,120 @@
 package org.example.qafordevs.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.qafordevs.dto.DeveloperContact;
 import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface DeveloperRepository extends JpaRepository<DeveloperEntity, Integer> {
+public interface DeveloperRepository extends JpaRepository<DeveloperEntity, Integer>, DeveloperBulkRepository,
+    DeveloperProjectionRepository {
 
     DeveloperEntity findByEmail(String email);
 
+    @Query("SELECT developers.email FROM DeveloperEntity developers WHERE developers.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT developers.id FROM DeveloperEntity developers WHERE developers.id IN ?1")
+    List<Integer> findExistingIds(Collection<Integer> ids);
+
+    List<DeveloperEntity> findAllByStatus(Status status);
+
     @Query("SELECT developers FROM DeveloperEntity developers " +
         "WHERE developers.status = 'ACTIVE' AND developers.speciality = ?1")
     List<DeveloperEntity> findAllActiveBySpeciality(String speciality);
 
+    @Query("SELECT new org.example.qafordevs.dto.DeveloperContact(" +
+        "developers.id, developers.firstName, developers.lastName, developers.email) " +
+        "FROM DeveloperEntity developers " +
+        "WHERE developers.status = 'ACTIVE' AND developers.speciality = ?1")
+    List<DeveloperContact> findAllActiveContactsBySpeciality(String speciality);
+
+    @Query("SELECT developers FROM DeveloperEntity developers " +
+        "WHERE developers.status = 'ACTIVE' AND developers.id > ?1 ORDER BY developers.id")
+    List<DeveloperEntity> findAllActiveAfterId(Integer afterId, Pageable pageable);
+
+    /**
+     * Has to be consumed and closed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT developers FROM DeveloperEntity developers " +
+        "WHERE developers.status = 'ACTIVE' ORDER BY developers.id")
+    Stream<DeveloperEntity> streamAllActive();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity developers SET " +
+        "developers.firstName = :#{#developer.firstName}, " +
+        "developers.lastName = :#{#developer.lastName}, " +
+        "developers.email = :#{#developer.email}, " +
+        "developers.speciality = :#{#developer.speciality}, " +
+        "developers.status = :#{#developer.status}, " +
+        "developers.version = developers.version + 1 " +
+        "WHERE developers.id = :#{#developer.id}")
+    int updateDeveloper(@Param("developer") DeveloperEntity developer);
+
+    /**
+     * Same as {@link #updateDeveloper(DeveloperEntity)} but only applies while the row is still at
+     * {@code developer.version}, so a lost update shows up as zero updated rows instead of an overwrite.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity developers SET " +
+        "developers.firstName = :#{#developer.firstName}, " +
+        "developers.lastName = :#{#developer.lastName}, " +
+        "developers.email = :#{#developer.email}, " +
+        "developers.speciality = :#{#developer.speciality}, " +
+        "developers.status = :#{#developer.status}, " +
+        "developers.version = developers.version + 1 " +
+        "WHERE developers.id = :#{#developer.id} AND developers.version = :#{#developer.version}")
+    int updateDeveloperIfVersion(@Param("developer") DeveloperEntity developer);
+
+    @Query("SELECT developers.version FROM DeveloperEntity developers WHERE developers.id = ?1")
+    Long findVersionById(Integer id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity developers SET developers.status = 'DELETED', " +
+        "developers.version = developers.version + 1 WHERE developers.id = ?1")
+    int deactivateById(Integer id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeveloperEntity developers SET developers.status = 'DELETED', " +
+        "developers.version = developers.version + 1 WHERE developers.id IN ?1")
+    int deactivateAllByIds(Collection<Integer> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DeveloperEntity developers WHERE developers.id = ?1")
+    int removeById(Integer id);
+
+    /**
+     * Oldest deleted developers, locked until the end of the transaction so they cannot be changed while archived.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT developers FROM DeveloperEntity developers WHERE developers.status = 'DELETED' ORDER BY developers.id")
+    List<DeveloperEntity> findDeletedForArchiving(Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DeveloperEntity developers WHERE developers.id IN ?1")
+    int removeAllByIds(Collection<Integer> ids);
+
 }
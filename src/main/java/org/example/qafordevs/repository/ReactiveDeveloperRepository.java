@@ -0,0 +1,65 @@
+package org.example.qafordevs.repository;
+
+import org.example.qafordevs.entity.DeveloperRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDeveloperRepository extends R2dbcRepository<DeveloperRow, Integer> {
+
+    Mono<DeveloperRow> findByEmail(String email);
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE'")
+    Flux<DeveloperRow> findAllActive();
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' AND speciality = :speciality")
+    Flux<DeveloperRow> findAllActiveBySpeciality(@Param("speciality") String speciality);
+
+    @Modifying
+    @Query("UPDATE developers SET first_name = :#{#developer.firstName}, last_name = :#{#developer.lastName}, " +
+        "email = :#{#developer.email}, speciality = :#{#developer.speciality}, status = :#{#developer.status?.name()}, " +
+        "version = version + 1 " +
+        "WHERE id = :#{#developer.id}")
+    Mono<Integer> updateDeveloper(@Param("developer") DeveloperRow developer);
+
+    @Modifying
+    @Query("UPDATE developers SET first_name = :#{#developer.firstName}, last_name = :#{#developer.lastName}, " +
+        "email = :#{#developer.email}, speciality = :#{#developer.speciality}, status = :#{#developer.status?.name()}, " +
+        "version = version + 1 " +
+        "WHERE id = :#{#developer.id} AND version = :#{#developer.version}")
+    Mono<Integer> updateDeveloperIfVersion(@Param("developer") DeveloperRow developer);
+
+    @Query("SELECT version FROM developers WHERE id = :id")
+    Mono<Long> findVersionById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE developers SET status = 'DELETED', version = version + 1 WHERE id = :id")
+    Mono<Integer> deactivateById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("DELETE FROM developers WHERE id = :id")
+    Mono<Integer> removeById(@Param("id") Integer id);
+
+    @Query("SELECT id, first_name, last_name, email, speciality, status, version FROM developers_archive WHERE id = :id")
+    Mono<DeveloperRow> findArchivedById(@Param("id") Integer id);
+
+    @Query("SELECT COUNT(*) > 0 FROM developers_archive WHERE id = :id")
+    Mono<Boolean> existsArchivedById(@Param("id") Integer id);
+
+    /**
+     * Copies an archived developer back into {@code developers} with its id and version, the caller removes it
+     * from the archive in the same transaction.
+     */
+    @Modifying
+    @Query("INSERT INTO developers (id, first_name, last_name, email, speciality, status, version) " +
+        "SELECT id, first_name, last_name, email, speciality, status, version FROM developers_archive WHERE id = :id")
+    Mono<Integer> copyArchivedToDevelopers(@Param("id") Integer id);
+
+    @Modifying
+    @Query("DELETE FROM developers_archive WHERE id = :id")
+    Mono<Integer> removeArchivedById(@Param("id") Integer id);
+
+}
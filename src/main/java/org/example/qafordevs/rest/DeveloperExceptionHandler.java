@@ -0,0 +1,61 @@
+package org.example.qafordevs.rest;
+
+import org.example.qafordevs.dto.ErrorDto;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperLookupTimeoutException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.exception.DeveloperValidationException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice
+public class DeveloperExceptionHandler {
+
+    @ExceptionHandler(DeveloperNotFoundException.class)
+    public ResponseEntity<ErrorDto> handleNotFound(DeveloperNotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(DeveloperDuplicateEmailException.class)
+    public ResponseEntity<ErrorDto> handleDuplicateEmail(DeveloperDuplicateEmailException e) {
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(DeveloperVersionConflictException.class)
+    public ResponseEntity<ErrorDto> handleVersionConflict(DeveloperVersionConflictException e, WebRequest request) {
+        // a version sent as If-Match is a failed precondition, one sent in the body a plain conflict
+        HttpStatus status = Objects.nonNull(request.getHeader(HttpHeaders.IF_MATCH))
+            ? HttpStatus.PRECONDITION_FAILED
+            : HttpStatus.CONFLICT;
+        return error(status, e.getMessage());
+    }
+
+    // only arguments checked on purpose, any other IllegalArgumentException is a bug and stays a server error
+    @ExceptionHandler(DeveloperValidationException.class)
+    public ResponseEntity<ErrorDto> handleValidation(DeveloperValidationException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(DeveloperLookupTimeoutException.class)
+    public ResponseEntity<ErrorDto> handleLookupTimeout(DeveloperLookupTimeoutException e) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorDto> handleRejected(RejectedExecutionException e) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    private static ResponseEntity<ErrorDto> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ErrorDto(status.value(), message));
+    }
+
+}
@@ -0,0 +1,210 @@
+package org.example.qafordevs.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.dto.DeveloperBulkSaveReport;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.dto.DeveloperContact;
+import org.example.qafordevs.dto.DeveloperDto;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperPageDto;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.dto.ErrorDto;
+import org.example.qafordevs.dto.ExportFormat;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.exception.DeveloperValidationException;
+import org.example.qafordevs.service.DeveloperService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/developers")
+@RequiredArgsConstructor
+public class DeveloperRestControllerV1 {
+
+    private final DeveloperService developerService;
+
+    @PostMapping
+    public ResponseEntity<DeveloperDto> createDeveloper(@RequestBody DeveloperDto dto) {
+        DeveloperEntity createdDeveloper = developerService.saveDeveloper(toNewEntity(dto));
+        return ResponseEntity.status(HttpStatus.CREATED).body(DeveloperDto.fromEntity(createdDeveloper));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<DeveloperBulkSaveReport> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        List<DeveloperEntity> entities = dtos.stream().map(DeveloperRestControllerV1::toNewEntity).toList();
+        return ResponseEntity.ok(developerService.saveDevelopers(entities));
+    }
+
+    @PutMapping
+    public ResponseEntity<DeveloperDto> updateDeveloper(
+        @RequestBody DeveloperDto dto,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        DeveloperEntity developer = dto.toEntity();
+        if (Objects.nonNull(ifMatch) && !"*".equals(ifMatch.trim())) {
+            developer.setVersion(parseVersion(ifMatch));
+        }
+        return withVersionTag(DeveloperDto.fromEntity(developerService.updateDeveloper(developer)));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getDeveloperById(@PathVariable Integer id) {
+        return developerService.findDeveloperById(id)
+            .<ResponseEntity<?>>map(developer -> withVersionTag(DeveloperDto.fromEntity(developer)))
+            .orElseGet(() -> notFound("id", id));
+    }
+
+    @GetMapping("/email/{email}")
+    public ResponseEntity<?> getDeveloperByEmail(@PathVariable String email) {
+        // clients probe by email, so a miss is answered here instead of through the exception handler
+        return developerService.findDeveloperByEmail(email)
+            .<ResponseEntity<?>>map(developer -> ResponseEntity.ok(DeveloperDto.fromEntity(developer)))
+            .orElseGet(() -> notFound("email", email));
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<List<DeveloperView>> getAllDevelopers(@RequestParam(required = false) List<String> fields) {
+        return ResponseEntity.ok(developerService.getAllDeveloperViews(toFields(fields)));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<DeveloperPageDto> getActiveDevelopersPage(
+        @RequestParam(required = false) Integer afterId,
+        @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(DeveloperPageDto.fromPage(developerService.getActiveDevelopersPage(afterId, size)));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<List<DeveloperChange>> getChangesSince(
+        @RequestParam(required = false) Long since,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(developerService.getChangesSince(since, limit));
+    }
+
+    @GetMapping("/speciality/{speciality}")
+    public ResponseEntity<List<?>> getAllActiveBySpeciality(
+        @PathVariable String speciality,
+        @RequestParam(required = false) List<String> fields
+    ) {
+        if (Objects.nonNull(fields)) {
+            return ResponseEntity.ok(developerService.getAllActiveViewsBySpeciality(speciality, toFields(fields)));
+        }
+        // served from the speciality index when it is enabled
+        return ResponseEntity.ok(
+            developerService.getAllActiveBySpeciality(speciality).stream().map(DeveloperDto::fromEntity).toList()
+        );
+    }
+
+    @GetMapping("/speciality/{speciality}/contacts")
+    public ResponseEntity<List<DeveloperContact>> getAllActiveContactsBySpeciality(@PathVariable String speciality) {
+        return ResponseEntity.ok(developerService.getAllActiveContactsBySpeciality(speciality));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<DeveloperView>> searchDevelopers(
+        @RequestParam("q") String query,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(developerService.searchDevelopers(query, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActiveDevelopers(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody body = outputStream -> developerService.exportActiveDevelopers(format, outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .body(body);
+    }
+
+    @PostMapping("/deactivate")
+    public ResponseEntity<Integer> deactivateDevelopers(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(developerService.deactivateDevelopers(ids));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteDeveloperById(
+        @PathVariable Integer id,
+        @RequestParam(defaultValue = "false") boolean isHard,
+        @RequestParam(defaultValue = "false") boolean async
+    ) {
+        if (!isHard && async) {
+            developerService.deactivateDeveloperByIdAsync(id);
+            return ResponseEntity.accepted().build();
+        }
+        if (isHard) {
+            developerService.deleteDeveloperById(id);
+        } else {
+            developerService.deactivateDeveloperById(id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Set<DeveloperField> toFields(List<String> fields) {
+        Set<DeveloperField> selected = EnumSet.noneOf(DeveloperField.class);
+        if (Objects.nonNull(fields)) {
+            fields.forEach(field -> selected.add(DeveloperField.fromAttribute(field)));
+        }
+        return selected;
+    }
+
+    private static DeveloperEntity toNewEntity(DeveloperDto dto) {
+        DeveloperEntity entity = dto.toEntity();
+        entity.setStatus(Objects.requireNonNullElse(entity.getStatus(), Status.ACTIVE));
+        // a client supplied id would make the save merge a detached developer instead of inserting one
+        entity.setId(null);
+        entity.setVersion(null);
+        return entity;
+    }
+
+    private static ResponseEntity<ErrorDto> notFound(String attribute, Object value) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorDto(HttpStatus.NOT_FOUND.value(), "Developer with " + attribute + " " + value + " not found"));
+    }
+
+    private static ResponseEntity<DeveloperDto> withVersionTag(DeveloperDto dto) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (Objects.nonNull(dto.getVersion())) {
+            response.eTag(String.valueOf(dto.getVersion()));
+        }
+        return response.body(dto);
+    }
+
+    /**
+     * The entity tag is the developer version, weak tags are accepted since the representation is not byte-compared.
+     */
+    private static Long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new DeveloperValidationException(String.format("If-Match %s is not a developer version", ifMatch));
+        }
+    }
+
+}
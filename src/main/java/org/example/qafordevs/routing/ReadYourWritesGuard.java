@@ -0,0 +1,33 @@
+package org.example.qafordevs.routing;
+
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Keeps reads on the primary for a while after each committed developer write.
+ * The window is global rather than per caller, so it also covers a write and a read made by different requests.
+ */
+public class ReadYourWritesGuard {
+
+    private final long windowNanos;
+    private volatile long lastWriteNanos;
+
+    public ReadYourWritesGuard(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.lastWriteNanos = System.nanoTime() - windowNanos;
+    }
+
+    public boolean isActive() {
+        return windowNanos > 0 && System.nanoTime() - lastWriteNanos < windowNanos;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        if (windowNanos > 0) {
+            lastWriteNanos = System.nanoTime();
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package org.example.qafordevs.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over names, emails and specialities of active developers.
+ * <p>
+ * Lower-cased terms are kept in a sorted skip list, so all terms starting with a prefix are one contiguous
+ * range. Each term maps to a sorted array of ids that is replaced as a whole on change, so reads never lock.
+ * Terms and query words are split on spaces by {@link #words(String)}, the rule the database fallback of the search
+ * follows as well. A query with several words returns developers that have a term starting with every word: only
+ * the ids of the word with the fewest ids are walked, each checked against its own terms for the other words, until the limit
+ * is reached. Loading, queuing
+ * changes published during the load and serving empty until ready work as in the speciality index.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.search", name = "enabled", havingValue = "true")
+public class DeveloperSearchIndex {
+
+    private final DeveloperRepository developerRepository;
+    private final int buildPageSize;
+
+    private volatile ConcurrentSkipListMap<String, int[]> idsByTerm = new ConcurrentSkipListMap<>();
+    private volatile Map<Integer, DeveloperView> developersById = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    // guarded by writeLock, not null while the index is being built
+    private List<DeveloperChangedEvent> eventsDuringBuild;
+    private volatile boolean ready;
+
+    public DeveloperSearchIndex(DeveloperRepository developerRepository, DeveloperProperties developerProperties) {
+        this.developerRepository = developerRepository;
+        this.buildPageSize = developerProperties.getSearch().getBuildPageSize();
+    }
+
+    /**
+     * @return up to {@code limit} active developers ordered by the term matching the rarest word and id,
+     * empty until the index is built
+     */
+    public Optional<List<DeveloperView>> search(String query, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String[] words = words(query).toArray(String[]::new);
+        if (words.length == 0) {
+            return Optional.of(List.of());
+        }
+        ConcurrentSkipListMap<String, int[]> terms = idsByTerm;
+        Map<Integer, DeveloperView> developers = developersById;
+        String rarest = words[0];
+        long rarestCount = countIds(terms, rarest, Long.MAX_VALUE);
+        for (int i = 1; i < words.length && rarestCount > 0; i++) {
+            long count = countIds(terms, words[i], rarestCount);
+            if (count < rarestCount) {
+                rarest = words[i];
+                rarestCount = count;
+            }
+        }
+        // a developer has several terms under a prefix, its view is read once and kept as matched
+        Set<Integer> seen = new HashSet<>();
+        List<DeveloperView> found = new ArrayList<>();
+        for (int[] ids : withPrefix(terms, rarest).values()) {
+            for (int id : ids) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                DeveloperView developer = developers.get(id);
+                if (Objects.nonNull(developer) && matchesAll(developer, words)) {
+                    found.add(developer);
+                    if (found.size() == limit) {
+                        return Optional.of(found);
+                    }
+                }
+            }
+        }
+        return Optional.of(found);
+    }
+
+    /**
+     * Splits a query or a field into lower case words on spaces. A query word matches a field when it starts one
+     * of the field's words, that is when it starts the field or follows a space in it.
+     */
+    public static List<String> words(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split(" +")).filter(word -> !word.isEmpty()).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            eventsDuringBuild = new ArrayList<>();
+        }
+        ConcurrentSkipListMap<String, int[]> terms = new ConcurrentSkipListMap<>();
+        Map<Integer, DeveloperView> byId = new ConcurrentHashMap<>();
+        Map<String, IdBuffer> buffers = new HashMap<>();
+        int afterId = 0;
+        List<DeveloperEntity> page;
+        do {
+            page = developerRepository.findAllActiveAfterId(afterId, PageRequest.ofSize(buildPageSize));
+            for (DeveloperEntity developer : page) {
+                DeveloperView view = toView(developer);
+                byId.put(view.id(), view);
+                // pages come in id order, so every buffer stays sorted
+                terms(view).distinct().forEach(term -> buffers.computeIfAbsent(term, key -> new IdBuffer()).add(view.id()));
+                afterId = developer.getId();
+            }
+        } while (page.size() == buildPageSize);
+        buffers.forEach((term, ids) -> terms.put(term, ids.toArray()));
+
+        synchronized (writeLock) {
+            idsByTerm = terms;
+            developersById = byId;
+            eventsDuringBuild.forEach(this::apply);
+            eventsDuringBuild = null;
+            ready = true;
+        }
+        log.info("Search index built with {} developers and {} terms in {} ms",
+            byId.size(), terms.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        synchronized (writeLock) {
+            if (Objects.nonNull(eventsDuringBuild)) {
+                eventsDuringBuild.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(DeveloperChangedEvent event) {
+        remove(event.id());
+        DeveloperEntity developer = event.developer();
+        if (event.type() != DeveloperChangedEvent.Type.DELETED
+            && Objects.nonNull(developer)
+            && developer.getStatus() == Status.ACTIVE) {
+            add(toView(developer));
+        }
+    }
+
+    private void add(DeveloperView developer) {
+        developersById.put(developer.id(), developer);
+        terms(developer).distinct().forEach(term -> idsByTerm.compute(term, (key, ids) -> insert(ids, developer.id())));
+    }
+
+    private void remove(Integer id) {
+        DeveloperView developer = developersById.remove(id);
+        if (Objects.isNull(developer)) {
+            return;
+        }
+        terms(developer).distinct().forEach(term -> idsByTerm.computeIfPresent(term, (key, ids) -> delete(ids, id)));
+    }
+
+    private static NavigableMap<String, int[]> withPrefix(ConcurrentSkipListMap<String, int[]> terms, String prefix) {
+        return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * @return the ids under the prefix, or {@code bound} as soon as there are at least that many
+     */
+    private static long countIds(ConcurrentSkipListMap<String, int[]> terms, String prefix, long bound) {
+        long count = 0;
+        for (int[] ids : withPrefix(terms, prefix).values()) {
+            count += ids.length;
+            if (count >= bound) {
+                return bound;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matchesAll(DeveloperView developer, String[] words) {
+        if (words.length == 1) {
+            return true;
+        }
+        List<String> developerTerms = terms(developer).toList();
+        for (String word : words) {
+            if (developerTerms.stream().noneMatch(term -> term.startsWith(word))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Stream<String> terms(DeveloperView developer) {
+        return Stream.of(developer.firstName(), developer.lastName(), developer.email(), developer.speciality())
+            .filter(Objects::nonNull)
+            .flatMap(text -> words(text).stream());
+    }
+
+    private static DeveloperView toView(DeveloperEntity developer) {
+        return new DeveloperView(developer.getId(), developer.getFirstName(), developer.getLastName(),
+            developer.getEmail(), developer.getSpeciality(), developer.getStatus());
+    }
+
+    private static int[] insert(int[] ids, int id) {
+        if (Objects.isNull(ids)) {
+            return new int[]{id};
+        }
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        int[] copy = new int[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return copy;
+    }
+
+    // returning null drops the term
+    private static int[] delete(int[] ids, int id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        int[] copy = new int[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, position);
+        System.arraycopy(ids, position + 1, copy, position, ids.length - position - 1);
+        return copy;
+    }
+
+    private static final class IdBuffer {
+
+        private int[] ids = new int[1];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return size == ids.length ? ids : Arrays.copyOf(ids, size);
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.example.qafordevs.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.qafordevs.dto.ExportFormat;
+import org.example.qafordevs.entity.DeveloperEntity;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes developers one by one, nothing is kept after a row is written.
+ * Closing the writer flushes it but leaves the target stream open.
+ */
+abstract class DeveloperExportWriter implements Closeable {
+
+    protected final Writer writer;
+
+    private DeveloperExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    static DeveloperExportWriter of(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(outputStream);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    abstract void write(DeveloperEntity developer) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private static final class NdjsonWriter extends DeveloperExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            this.generator = new JsonFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(DeveloperEntity developer) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", developer.getId());
+            generator.writeStringField("firstName", developer.getFirstName());
+            generator.writeStringField("lastName", developer.getLastName());
+            generator.writeStringField("email", developer.getEmail());
+            generator.writeStringField("speciality", developer.getSpeciality());
+            generator.writeStringField("status", developer.getStatus().name());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+            super.close();
+        }
+    }
+
+    private static final class CsvWriter extends DeveloperExportWriter {
+
+        private CsvWriter(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            writer.write("id,firstName,lastName,email,speciality,status\n");
+        }
+
+        @Override
+        void write(DeveloperEntity developer) throws IOException {
+            writer.write(String.valueOf(developer.getId()));
+            writeField(developer.getFirstName());
+            writeField(developer.getLastName());
+            writeField(developer.getEmail());
+            writeField(developer.getSpeciality());
+            writeField(developer.getStatus().name());
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+}
@@ -1,25 +1,104 @@
 package org.example.qafordevs.service;
 
+import org.example.qafordevs.dto.DeveloperBulkSaveReport;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.dto.DeveloperContact;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperPage;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.dto.ExportFormat;
 import org.example.qafordevs.entity.DeveloperEntity;
 
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface DeveloperService {
 
+    /**
+     * @throws org.example.qafordevs.exception.DeveloperDuplicateEmailException if a developer in {@code developers}
+     * has the email, deleted ones included; an archived developer no longer holds its email
+     */
     DeveloperEntity saveDeveloper(DeveloperEntity developerEntity);
 
+    DeveloperBulkSaveReport saveDevelopers(Collection<DeveloperEntity> developerEntities);
+
+    /**
+     * Overwrites the developer in a single statement. When {@code developerEntity} carries a version the update only
+     * applies while the stored developer is still at it, otherwise it is last-writer-wins.
+     *
+     * @return the developer as written, with the incremented version when one was expected and without a version otherwise
+     * @throws org.example.qafordevs.exception.DeveloperVersionConflictException if the expected version is stale
+     */
     DeveloperEntity updateDeveloper(DeveloperEntity developerEntity);
 
+    /**
+     * Deleted developers are found as deleted, also after they were archived.
+     */
     DeveloperEntity getDeveloperById(Integer id);
 
+    /**
+     * Same lookup as {@link #getDeveloperById(Integer)}, a miss is an empty result instead of an exception.
+     */
+    Optional<DeveloperEntity> findDeveloperById(Integer id);
+
+    /**
+     * Deleted developers are found until they are archived, the archive is only looked up by id.
+     */
     DeveloperEntity getDeveloperByEmail(String name);
 
+    /**
+     * Same lookup as {@link #getDeveloperByEmail(String)}, for callers that probe emails and expect misses.
+     */
+    Optional<DeveloperEntity> findDeveloperByEmail(String email);
+
     List<DeveloperEntity> getAllDevelopers();
 
+    /**
+     * Active developers with only the requested fields, all fields when {@code fields} is empty.
+     */
+    List<DeveloperView> getAllDeveloperViews(Set<DeveloperField> fields);
+
+    DeveloperPage getActiveDevelopersPage(Integer afterId, int size);
+
+    long exportActiveDevelopers(ExportFormat format, OutputStream outputStream);
+
+    /**
+     * When the speciality index is enabled the returned developers are shared and must not be modified.
+     */
     List<DeveloperEntity> getAllActiveBySpeciality(String speciality);
 
+    /**
+     * Active developers of the speciality with only the requested fields, all fields when {@code fields} is empty.
+     */
+    List<DeveloperView> getAllActiveViewsBySpeciality(String speciality, Set<DeveloperField> fields);
+
+    List<DeveloperContact> getAllActiveContactsBySpeciality(String speciality);
+
+    /**
+     * Active developers with a name, email or speciality word starting with every word of the query, at most {@code limit}.
+     */
+    List<DeveloperView> searchDevelopers(String query, int limit);
+
     void deactivateDeveloperById(Integer id);
 
+    /**
+     * Queues the deactivation when write-behind is enabled, otherwise deactivates right away.
+     * The future fails with {@link org.example.qafordevs.exception.DeveloperNotFoundException} for an unknown id.
+     */
+    CompletableFuture<Void> deactivateDeveloperByIdAsync(Integer id);
+
+    int deactivateDevelopers(Collection<Integer> ids);
+
     void deleteDeveloperById(Integer id);
 
+    /**
+     * Recorded changes with a sequence greater than {@code afterSequence}, in sequence order.
+     * Empty unless the outbox is enabled.
+     */
+    List<DeveloperChange> getChangesSince(Long afterSequence, int limit);
+
 }
@@ -1,92 +1,460 @@
 package org.example.qafordevs.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.cache.DeveloperCache;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperBulkSaveReport;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.dto.DeveloperContact;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperPage;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.dto.ExportFormat;
+import org.example.qafordevs.entity.ArchivedDeveloperEntity;
 import org.example.qafordevs.entity.DeveloperEntity;
 import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
 import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
 import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.exception.DeveloperValidationException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.index.DeveloperSpecialityIndex;
+import org.example.qafordevs.lookup.DeveloperBatchLoader;
+import org.example.qafordevs.lookup.SingleFlight;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
 import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.search.DeveloperSearchIndex;
+import org.example.qafordevs.writebehind.DeveloperDeactivationQueue;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class DeveloperServiceImpl implements DeveloperService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final DeveloperRepository developerRepository;
+    private final DeveloperOutboxRepository outboxRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final EntityManager entityManager;
+    private final DeveloperProperties developerProperties;
+    private final DeveloperCache developerCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<DeveloperSpecialityIndex> specialityIndex;
+    private final ObjectProvider<DeveloperBatchLoader> batchLoader;
+    private final ObjectProvider<DeveloperDeactivationQueue> deactivationQueue;
+    private final ObjectProvider<DeveloperSearchIndex> searchIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    private final SingleFlight<Integer, Optional<DeveloperEntity>> lookupsById = new SingleFlight<>(DeveloperServiceImpl::copy);
+    private final SingleFlight<String, Optional<DeveloperEntity>> lookupsByEmail = new SingleFlight<>(DeveloperServiceImpl::copy);
 
     @Override
+    @Transactional
     public DeveloperEntity saveDeveloper(DeveloperEntity developerEntity) {
-        DeveloperEntity duplicateCandidate = developerRepository.findByEmail(developerEntity.getEmail());
+        DeveloperEntity savedDeveloper;
+        try {
+            savedDeveloper = developerRepository.save(developerEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, developerEntity);
+        }
+        eventPublisher.publishEvent(DeveloperChangedEvent.created(savedDeveloper));
+        return savedDeveloper;
+    }
+
+    @Override
+    @Transactional
+    public DeveloperBulkSaveReport saveDevelopers(Collection<DeveloperEntity> developerEntities) {
+        List<DeveloperEntity> developers = List.copyOf(developerEntities);
+        List<DeveloperBulkSaveReport.Row> rows = new ArrayList<>(developers.size());
+        Set<String> batchEmails = new HashSet<>();
+        int chunkSize = developerProperties.getBulk().getChunkSize();
+        // a failed chunk is rolled back to its savepoint, the chunks saved before it stay in the transaction
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
 
-        if (Objects.nonNull(duplicateCandidate)) {
-            throw new DeveloperDuplicateEmailException(String.format("Developer with email %s already exists", developerEntity.getEmail()));
+        for (int from = 0; from < developers.size(); from += chunkSize) {
+            List<DeveloperEntity> chunk = developers.subList(from, Math.min(from + chunkSize, developers.size()));
+            List<String> chunkEmails = chunk.stream().map(DeveloperEntity::getEmail).filter(Objects::nonNull).distinct().toList();
+            Set<String> existingEmails = new HashSet<>(developerRepository.findExistingEmails(chunkEmails));
+            while (true) {
+                try {
+                    rows.addAll(saveChunk(chunk, from, existingEmails, batchEmails, savepoint));
+                    break;
+                } catch (DuplicateKeyException e) {
+                    // an email was taken by a concurrent insert after it was checked, the chunk is sorted again
+                    // against the emails taken now, unless none was, which leaves the violation unexplained
+                    if (!existingEmails.addAll(developerRepository.findExistingEmails(chunkEmails))) {
+                        throw e;
+                    }
+                }
+            }
         }
 
-        return developerRepository.save(developerEntity);
+        return new DeveloperBulkSaveReport(rows);
     }
 
     @Override
+    @Transactional
     public DeveloperEntity updateDeveloper(DeveloperEntity developerEntity) {
-        boolean exists = developerRepository.existsById(developerEntity.getId());
+        Long expectedVersion = developerEntity.getVersion();
+        int updated;
+        try {
+            updated = update(developerEntity);
+            // an update brings an archived developer back, as it would a deleted one that is not archived yet
+            if (updated == 0 && restoreArchived(developerEntity.getId())) {
+                updated = update(developerEntity);
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, developerEntity);
+        }
 
-        if (!exists) {
-            throw new DeveloperNotFoundException(String.format("Developer with id %s not found", developerEntity.getId()));
+        if (updated == 0) {
+            // only a failed update pays for telling a stale version from a missing developer
+            if (Objects.nonNull(expectedVersion) && developerRepository.existsById(developerEntity.getId())) {
+                throw new DeveloperVersionConflictException(String.format(
+                    "Developer with id %s is no longer at version %s", developerEntity.getId(), expectedVersion));
+            }
+            throw DeveloperNotFoundException.byId(developerEntity.getId());
         }
 
-        return developerRepository.save(developerEntity);
+        // an unconditional update has to read its version back, so the caller still gets an ETag
+        DeveloperEntity updatedDeveloper = developerEntity.toBuilder()
+            .version(Objects.isNull(expectedVersion)
+                ? developerRepository.findVersionById(developerEntity.getId())
+                : expectedVersion + 1)
+            .build();
+        eventPublisher.publishEvent(DeveloperChangedEvent.updated(updatedDeveloper));
+        return updatedDeveloper;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DeveloperEntity getDeveloperById(Integer id) {
-        return developerRepository.findById(id).orElseThrow(
-            () -> new DeveloperNotFoundException(String.format("Developer with id %s not found", id))
-        );
+        return findDeveloperById(id).orElseThrow(() -> DeveloperNotFoundException.byId(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<DeveloperEntity> findDeveloperById(Integer id) {
+        Optional<DeveloperEntity> cached = developerCache.getById(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<DeveloperEntity> developer = developerProperties.getLookup().isCoalesce()
+            ? lookupsById.execute(id, () -> loadDeveloperById(id), developerProperties.getLookup().getWaitTimeout())
+            : loadDeveloperById(id);
+        developer.ifPresent(developerCache::put);
+        return developer;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public DeveloperEntity getDeveloperByEmail(String name) {
-        DeveloperEntity developer = developerRepository.findByEmail(name);
+        return findDeveloperByEmail(name).orElseThrow(() -> DeveloperNotFoundException.byEmail(name));
+    }
 
-        if (Objects.isNull(developer)) {
-            throw new DeveloperNotFoundException(String.format("Developer with email %s not found", name));
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<DeveloperEntity> findDeveloperByEmail(String email) {
+        Optional<DeveloperEntity> cached = developerCache.getByEmail(email);
+        if (cached.isPresent()) {
+            return cached;
         }
-
+        Optional<DeveloperEntity> developer = developerProperties.getLookup().isCoalesce()
+            ? lookupsByEmail.execute(email, () -> loadDeveloperByEmail(email), developerProperties.getLookup().getWaitTimeout())
+            : loadDeveloperByEmail(email);
+        developer.ifPresent(developerCache::put);
         return developer;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<DeveloperEntity> getAllDevelopers() {
-        return developerRepository.findAll().
-            stream()
-            .filter(developer -> developer.getStatus().equals(Status.ACTIVE))
-            .toList();
+        return developerRepository.findAllByStatus(Status.ACTIVE);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperView> getAllDeveloperViews(Set<DeveloperField> fields) {
+        return developerRepository.findAllActiveViews(null, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DeveloperPage getActiveDevelopersPage(Integer afterId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DeveloperValidationException(String.format("Page size must be between 1 and %s", MAX_PAGE_SIZE));
+        }
+        // one extra row tells whether there is a next page without a count query
+        List<DeveloperEntity> developers = developerRepository.findAllActiveAfterId(
+            Objects.requireNonNullElse(afterId, 0), PageRequest.ofSize(size + 1)
+        );
+
+        if (developers.size() <= size) {
+            return new DeveloperPage(developers, null);
+        }
+
+        List<DeveloperEntity> content = List.copyOf(developers.subList(0, size));
+        return new DeveloperPage(content, content.get(size - 1).getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportActiveDevelopers(ExportFormat format, OutputStream outputStream) {
+        long exported = 0;
+        try (Stream<DeveloperEntity> developers = developerRepository.streamAllActive();
+             DeveloperExportWriter writer = DeveloperExportWriter.of(format, outputStream)) {
+            Iterator<DeveloperEntity> iterator = developers.iterator();
+            while (iterator.hasNext()) {
+                DeveloperEntity developer = iterator.next();
+                writer.write(developer);
+                // keeps the persistence context from growing with the export
+                entityManager.detach(developer);
+                exported++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return exported;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<DeveloperEntity> getAllActiveBySpeciality(String speciality) {
+        DeveloperSpecialityIndex index = specialityIndex.getIfAvailable();
+        if (Objects.nonNull(index)) {
+            Optional<List<DeveloperEntity>> indexed = index.getActiveBySpeciality(speciality);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
         return developerRepository.findAllActiveBySpeciality(speciality);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperView> getAllActiveViewsBySpeciality(String speciality, Set<DeveloperField> fields) {
+        return developerRepository.findAllActiveViews(speciality, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperContact> getAllActiveContactsBySpeciality(String speciality) {
+        return developerRepository.findAllActiveContactsBySpeciality(speciality);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperView> searchDevelopers(String query, int limit) {
+        if (Objects.isNull(query) || query.isBlank()) {
+            throw new DeveloperValidationException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new DeveloperValidationException(String.format("Limit must be between 1 and %s", MAX_PAGE_SIZE));
+        }
+        DeveloperSearchIndex index = searchIndex.getIfAvailable();
+        if (Objects.nonNull(index)) {
+            Optional<List<DeveloperView>> indexed = index.search(query, limit);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+        // without the index every word still has to match, split and matched by the same rule
+        return developerRepository.searchActiveByWords(DeveloperSearchIndex.words(query), limit);
+    }
+
+    @Override
+    @Transactional
     public void deactivateDeveloperById(Integer id) {
-        DeveloperEntity developer = developerRepository.findById(id)
-            .orElseThrow(
-                () -> new DeveloperNotFoundException(String.format("Developer with id %s not found", id))
-            );
-        developer.setStatus(Status.DELETED);
-        developerRepository.save(developer);
+        if (developerRepository.deactivateById(id) == 0) {
+            // an archived developer has been deactivated already
+            if (archivedDeveloperRepository.existsById(id)) {
+                return;
+            }
+            throw DeveloperNotFoundException.byId(id);
+        }
+        eventPublisher.publishEvent(DeveloperChangedEvent.deactivated(id, null));
     }
 
+    /**
+     * The fallback calls {@link #deactivateDeveloperById(Integer)} directly, so this method carries the transaction
+     * that keeps the update and its outbox row atomic. Limits and metrics apply to it under its own name. Without
+     * statements the transaction never takes a pooled connection, so the queued path pays nothing for it.
+     */
     @Override
+    @Transactional
+    public CompletableFuture<Void> deactivateDeveloperByIdAsync(Integer id) {
+        DeveloperDeactivationQueue queue = deactivationQueue.getIfAvailable();
+        if (Objects.nonNull(queue)) {
+            return queue.submit(id);
+        }
+        try {
+            deactivateDeveloperById(id);
+            return CompletableFuture.completedFuture(null);
+        } catch (DeveloperNotFoundException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deactivateDevelopers(Collection<Integer> ids) {
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        int chunkSize = developerProperties.getBulk().getChunkSize();
+        int deactivated = 0;
+
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            // unknown ids must not show up as changes in the outbox
+            List<Integer> existing = developerRepository.findExistingIds(chunk);
+            if (existing.isEmpty()) {
+                continue;
+            }
+            deactivated += developerRepository.deactivateAllByIds(existing);
+            existing.forEach(id -> eventPublisher.publishEvent(DeveloperChangedEvent.deactivated(id, null)));
+        }
+
+        return deactivated;
+    }
+
+    @Override
+    @Transactional
     public void deleteDeveloperById(Integer id) {
-        DeveloperEntity developer = developerRepository.findById(id)
-            .orElseThrow(
-                () -> new DeveloperNotFoundException(String.format("Developer with id %s not found", id))
-            );
-        developerRepository.deleteById(developer.getId());
+        if (developerRepository.removeById(id) == 0 && archivedDeveloperRepository.removeById(id) == 0) {
+            throw DeveloperNotFoundException.byId(id);
+        }
+        eventPublisher.publishEvent(DeveloperChangedEvent.deleted(id));
+    }
+
+    private int update(DeveloperEntity developerEntity) {
+        return Objects.isNull(developerEntity.getVersion())
+            ? developerRepository.updateDeveloper(developerEntity)
+            : developerRepository.updateDeveloperIfVersion(developerEntity);
+    }
+
+    /**
+     * Moves an archived developer back to {@code developers} with its version, so that the version check of the
+     * update that follows still applies. A failing update rolls the move back with it.
+     */
+    private boolean restoreArchived(Integer id) {
+        if (archivedDeveloperRepository.copyToDevelopers(id) == 0) {
+            return false;
+        }
+        archivedDeveloperRepository.removeById(id);
+        return true;
+    }
+
+    /**
+     * Deleted developers may have been moved to the archive, which is only asked after a miss.
+     */
+    private Optional<DeveloperEntity> loadDeveloperById(Integer id) {
+        DeveloperBatchLoader loader = batchLoader.getIfAvailable();
+        Optional<DeveloperEntity> developer = Objects.nonNull(loader) ? loader.find(id) : developerRepository.findById(id);
+        return developer.or(() -> archivedDeveloperRepository.findById(id).map(ArchivedDeveloperEntity::toDeveloper));
+    }
+
+    private Optional<DeveloperEntity> loadDeveloperByEmail(String email) {
+        return Optional.ofNullable(developerRepository.findByEmail(email));
+    }
+
+    private static Optional<DeveloperEntity> copy(Optional<DeveloperEntity> developer) {
+        return developer.map(d -> d.toBuilder().build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperChange> getChangesSince(Long afterSequence, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new DeveloperValidationException(String.format("Limit must be between 1 and %s", MAX_PAGE_SIZE));
+        }
+        return outboxRepository.findAllAfterSequence(Objects.requireNonNullElse(afterSequence, 0L), PageRequest.ofSize(limit))
+            .stream()
+            .map(DeveloperChange::fromOutbox)
+            .toList();
+    }
+
+    /**
+     * Inserts the developers of a chunk whose email is neither taken nor repeated earlier in the batch. The emails of
+     * the chunk are added to {@code batchEmails} and the events published only once its insert succeeded.
+     * <p>
+     * The generated id aside, the email index is the only unique key, so a {@link DuplicateKeyException} is thrown
+     * only when an email in {@code existingEmails} is out of date.
+     */
+    private List<DeveloperBulkSaveReport.Row> saveChunk(List<DeveloperEntity> chunk, int from, Set<String> existingEmails,
+                                                        Set<String> batchEmails, TransactionTemplate savepoint) {
+        List<DeveloperBulkSaveReport.Row> rows = new ArrayList<>(chunk.size());
+        Set<String> chunkEmails = new HashSet<>();
+        List<DeveloperEntity> toInsert = new ArrayList<>(chunk.size());
+        List<Integer> toInsertPositions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            DeveloperEntity developer = chunk.get(i);
+            String email = developer.getEmail();
+            // the unique index allows any number of developers without an email
+            if (Objects.nonNull(email) && (batchEmails.contains(email) || !chunkEmails.add(email))) {
+                rows.add(new DeveloperBulkSaveReport.Row(from + i, email,
+                    DeveloperBulkSaveReport.Outcome.DUPLICATE_EMAIL_IN_BATCH, null));
+            } else if (Objects.nonNull(email) && existingEmails.contains(email)) {
+                rows.add(new DeveloperBulkSaveReport.Row(from + i, email,
+                    DeveloperBulkSaveReport.Outcome.DUPLICATE_EMAIL, null));
+            } else {
+                // placeholder until the batch returns the generated id
+                rows.add(null);
+                toInsert.add(developer);
+                toInsertPositions.add(i);
+            }
+        }
+
+        List<DeveloperEntity> inserted = savepoint.execute(status -> developerRepository.insertAll(toInsert));
+        for (int i = 0; i < inserted.size(); i++) {
+            DeveloperEntity developer = inserted.get(i);
+            int position = toInsertPositions.get(i);
+            rows.set(position, new DeveloperBulkSaveReport.Row(from + position, developer.getEmail(),
+                DeveloperBulkSaveReport.Outcome.SAVED, developer.getId()));
+            eventPublisher.publishEvent(DeveloperChangedEvent.created(developer));
+        }
+        batchEmails.addAll(chunkEmails);
+        return rows;
+    }
+
+    /**
+     * The unique index on email is the only duplicate check, so a violation of it is the duplicate-email case.
+     * Any other integrity violation is rethrown as is.
+     */
+    private static RuntimeException translateDuplicateEmail(DataIntegrityViolationException e, DeveloperEntity developerEntity) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+            && violation.getConstraintName() != null
+            && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return DeveloperDuplicateEmailException.forEmail(developerEntity.getEmail());
+        }
+        return e;
     }
 
 }
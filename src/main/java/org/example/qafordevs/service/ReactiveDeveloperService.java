@@ -0,0 +1,35 @@
+package org.example.qafordevs.service;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link DeveloperService} backed by R2DBC.
+ * Errors are signalled with the same exceptions as the blocking service.
+ */
+public interface ReactiveDeveloperService {
+
+    Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developerEntity);
+
+    Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developerEntity);
+
+    Mono<DeveloperEntity> getDeveloperById(Integer id);
+
+    Mono<DeveloperEntity> getDeveloperByEmail(String email);
+
+    /**
+     * Rows are read from the database as the subscriber requests them.
+     */
+    Flux<DeveloperEntity> getAllDevelopers();
+
+    /**
+     * Rows are read from the database as the subscriber requests them.
+     */
+    Flux<DeveloperEntity> getAllActiveBySpeciality(String speciality);
+
+    Mono<Void> deactivateDeveloperById(Integer id);
+
+    Mono<Void> deleteDeveloperById(Integer id);
+
+}
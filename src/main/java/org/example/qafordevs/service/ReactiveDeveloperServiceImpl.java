@@ -0,0 +1,172 @@
+package org.example.qafordevs.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.DeveloperRow;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.outbox.DeveloperOutboxWriter;
+import org.example.qafordevs.repository.ReactiveDeveloperRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveDeveloperServiceImpl implements ReactiveDeveloperService {
+
+    private final ReactiveDeveloperRepository developerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectProvider<DeveloperOutboxWriter> outboxWriter;
+
+    @Override
+    public Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developerEntity) {
+        return commit(developerRepository.save(DeveloperRow.fromEntity(developerEntity).withId(null).withVersion(null))
+            .onErrorMap(DataIntegrityViolationException.class, e -> translateDuplicateEmail(e, developerEntity))
+            .map(row -> DeveloperChangedEvent.created(row.toEntity())))
+            .map(DeveloperChangedEvent::developer);
+    }
+
+    /**
+     * Same contract as {@link DeveloperServiceImpl#updateDeveloper(DeveloperEntity)}: a version makes the update
+     * conditional, and an archived developer is moved back before it is updated.
+     */
+    @Override
+    public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developerEntity) {
+        DeveloperRow row = DeveloperRow.fromEntity(developerEntity);
+        return commit(update(row)
+            .flatMap(updated -> updated == 0 ? restoreArchived(row) : Mono.just(updated))
+            .onErrorMap(DataIntegrityViolationException.class, e -> translateDuplicateEmail(e, developerEntity))
+            .flatMap(updated -> updated == 0
+                ? notUpdated(developerEntity)
+                : updatedVersion(row).map(version ->
+                    DeveloperChangedEvent.updated(developerEntity.toBuilder().version(version).build()))))
+            .map(DeveloperChangedEvent::developer);
+    }
+
+    /**
+     * Deleted developers may have been moved to the archive, which is only asked after a miss.
+     */
+    @Override
+    public Mono<DeveloperEntity> getDeveloperById(Integer id) {
+        return developerRepository.findById(id)
+            .switchIfEmpty(Mono.defer(() -> developerRepository.findArchivedById(id)))
+            .map(DeveloperRow::toEntity)
+            .switchIfEmpty(Mono.error(() -> DeveloperNotFoundException.byId(id)));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getDeveloperByEmail(String email) {
+        return developerRepository.findByEmail(email)
+            .map(DeveloperRow::toEntity)
+            .switchIfEmpty(Mono.error(() -> DeveloperNotFoundException.byEmail(email)));
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllDevelopers() {
+        return developerRepository.findAllActive().map(DeveloperRow::toEntity);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllActiveBySpeciality(String speciality) {
+        return developerRepository.findAllActiveBySpeciality(speciality).map(DeveloperRow::toEntity);
+    }
+
+    @Override
+    public Mono<Void> deactivateDeveloperById(Integer id) {
+        return commit(developerRepository.deactivateById(id)
+            .flatMap(updated -> updated > 0
+                ? Mono.just(DeveloperChangedEvent.deactivated(id, null))
+                // an archived developer has been deactivated already
+                : developerRepository.existsArchivedById(id).flatMap(archived -> archived
+                    ? Mono.<DeveloperChangedEvent>empty()
+                    : Mono.error(DeveloperNotFoundException.byId(id)))))
+            .then();
+    }
+
+    @Override
+    public Mono<Void> deleteDeveloperById(Integer id) {
+        return commit(developerRepository.removeById(id)
+            .flatMap(deleted -> deleted > 0 ? Mono.just(deleted) : developerRepository.removeArchivedById(id))
+            .flatMap(deleted -> deleted == 0
+                ? Mono.error(DeveloperNotFoundException.byId(id))
+                : Mono.just(DeveloperChangedEvent.deleted(id))))
+            .then();
+    }
+
+    private Mono<Integer> update(DeveloperRow row) {
+        return Objects.isNull(row.version())
+            ? developerRepository.updateDeveloper(row)
+            : developerRepository.updateDeveloperIfVersion(row);
+    }
+
+    /**
+     * An unconditional update has to read its version back, so the caller still gets an ETag.
+     */
+    private Mono<Long> updatedVersion(DeveloperRow row) {
+        return Objects.isNull(row.version())
+            ? developerRepository.findVersionById(row.id())
+            : Mono.just(row.version() + 1);
+    }
+
+    /**
+     * @return the rows updated after moving an archived developer back, 0 when it is not archived
+     */
+    private Mono<Integer> restoreArchived(DeveloperRow row) {
+        return developerRepository.copyArchivedToDevelopers(row.id())
+            .flatMap(copied -> copied == 0
+                ? Mono.just(0)
+                : developerRepository.removeArchivedById(row.id()).then(update(row)));
+    }
+
+    /**
+     * Only a failed update pays for telling a stale version from a missing developer.
+     */
+    private Mono<DeveloperChangedEvent> notUpdated(DeveloperEntity developerEntity) {
+        Integer id = developerEntity.getId();
+        if (Objects.isNull(developerEntity.getVersion())) {
+            return Mono.error(DeveloperNotFoundException.byId(id));
+        }
+        return developerRepository.existsById(id).flatMap(exists -> Mono.error(exists
+            ? new DeveloperVersionConflictException(String.format(
+                "Developer with id %s is no longer at version %s", id, developerEntity.getVersion()))
+            : DeveloperNotFoundException.byId(id)));
+    }
+
+    /**
+     * Runs the change and its outbox row in one reactive transaction, and publishes the change once it committed.
+     */
+    private Mono<DeveloperChangedEvent> commit(Mono<DeveloperChangedEvent> change) {
+        DeveloperOutboxWriter writer = outboxWriter.getIfAvailable();
+        Mono<DeveloperChangedEvent> recorded = Objects.isNull(writer)
+            ? change
+            : change.flatMap(event -> writer.write(event).thenReturn(event));
+        return recorded
+            .as(transactionalOperator::transactional)
+            .doOnNext(event -> eventPublisher.publishEvent(event));
+    }
+
+    /**
+     * R2DBC drivers only report the violated constraint in the message, so the message is matched instead of
+     * the constraint name {@link DeveloperServiceImpl} uses.
+     */
+    private static Throwable translateDuplicateEmail(DataIntegrityViolationException e, DeveloperEntity developerEntity) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (message != null && message.toLowerCase(Locale.ROOT).contains(DeveloperEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return DeveloperDuplicateEmailException.forEmail(developerEntity.getEmail());
+        }
+        return e;
+    }
+
+}
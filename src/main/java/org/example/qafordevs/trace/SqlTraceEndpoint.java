@@ -0,0 +1,35 @@
+package org.example.qafordevs.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/sqltrace} shows the current settings,
+ * {@code POST /actuator/sqltrace} with {@code mode} and/or {@code sampleRate} changes them.
+ */
+@Component
+@Endpoint(id = "sqltrace")
+@RequiredArgsConstructor
+public class SqlTraceEndpoint {
+
+    private final SqlTracer sqlTracer;
+
+    @ReadOperation
+    public SqlTraceStatus status() {
+        return new SqlTraceStatus(sqlTracer.getMode(), sqlTracer.getSampleRate(), sqlTracer.getDropped());
+    }
+
+    @WriteOperation
+    public SqlTraceStatus configure(@Nullable SqlTraceMode mode, @Nullable Double sampleRate) {
+        sqlTracer.configure(mode, sampleRate);
+        return status();
+    }
+
+    public record SqlTraceStatus(SqlTraceMode mode, double sampleRate, long dropped) {
+    }
+
+}
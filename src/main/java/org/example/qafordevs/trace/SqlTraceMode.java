@@ -0,0 +1,7 @@
+package org.example.qafordevs.trace;
+
+public enum SqlTraceMode {
+    OFF,
+    SAMPLED,
+    FULL
+}
@@ -0,0 +1,33 @@
+package org.example.qafordevs.trace;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sql-trace")
+public class SqlTraceProperties {
+
+    /**
+     * Initial trace mode, it can be changed at runtime.
+     */
+    private SqlTraceMode mode = SqlTraceMode.OFF;
+    /**
+     * Share of statements traced in {@link SqlTraceMode#SAMPLED} mode, from 0 to 1.
+     */
+    private double sampleRate = 0.01;
+    /**
+     * Statements waiting to be logged; statements traced while the buffer is full are dropped and counted.
+     */
+    private int bufferSize = 10_000;
+
+    /**
+     * Rejects a rate outside 0..1 while the properties are bound, instead of tracing everything or nothing.
+     */
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1, got " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+}
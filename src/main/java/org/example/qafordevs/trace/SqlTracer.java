@@ -0,0 +1,139 @@
+package org.example.qafordevs.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traces executed SQL with bind parameters and duration.
+ * <p>
+ * The calling thread only decides whether to trace and enqueues a copy of the SQL and bind values, since
+ * datasource-proxy reuses its query objects once the statement returns; formatting and logging happen on
+ * a background thread. Mode and sample rate can be changed at runtime.
+ */
+@Slf4j(topic = "sql.trace")
+@Component
+public class SqlTracer implements QueryExecutionListener, DisposableBean {
+
+    private final BlockingQueue<TracedStatement> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    private volatile SqlTraceMode mode;
+    private volatile double sampleRate;
+
+    public SqlTracer(SqlTraceProperties properties) {
+        this.mode = properties.getMode();
+        this.sampleRate = properties.getSampleRate();
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.writer = Thread.ofPlatform().name("sql-trace-writer").daemon().start(this::writeLoop);
+    }
+
+    public SqlTraceMode getMode() {
+        return mode;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void configure(SqlTraceMode mode, Double sampleRate) {
+        if (sampleRate != null) {
+            if (sampleRate < 0 || sampleRate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+            }
+            this.sampleRate = sampleRate;
+        }
+        if (mode != null) {
+            this.mode = mode;
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlTraceMode currentMode = mode;
+        if (currentMode == SqlTraceMode.OFF
+            || currentMode == SqlTraceMode.SAMPLED && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        List<TracedQuery> queries = new ArrayList<>(queryInfoList.size());
+        for (QueryInfo query : queryInfoList) {
+            queries.add(new TracedQuery(query.getQuery(), parameters(query)));
+        }
+        TracedStatement statement = new TracedStatement(
+            System.currentTimeMillis(), execInfo.getElapsedTime(), execInfo.isSuccess(), queries
+        );
+        if (!buffer.offer(statement)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void writeLoop() {
+        List<TracedStatement> batch = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch);
+                batch.forEach(this::write);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.drainTo(batch);
+        batch.forEach(this::write);
+    }
+
+    private void write(TracedStatement statement) {
+        for (TracedQuery query : statement.queries()) {
+            log.info("timestamp={} elapsedMs={} success={} sql=\"{}\" params={}",
+                statement.timestamp(), statement.elapsedMillis(), statement.success(), query.sql(), query.parameters());
+        }
+    }
+
+    private static List<List<Object>> parameters(QueryInfo query) {
+        List<List<Object>> parameters = new ArrayList<>(query.getParametersList().size());
+        for (List<ParameterSetOperation> operations : query.getParametersList()) {
+            List<Object> values = new ArrayList<>(operations.size());
+            for (ParameterSetOperation operation : operations) {
+                Object[] args = operation.getArgs();
+                values.add(args.length > 1 ? args[1] : null);
+            }
+            parameters.add(values);
+        }
+        return parameters;
+    }
+
+    private record TracedStatement(long timestamp, long elapsedMillis, boolean success, List<TracedQuery> queries) {
+    }
+
+    private record TracedQuery(String sql, List<List<Object>> parameters) {
+    }
+
+}
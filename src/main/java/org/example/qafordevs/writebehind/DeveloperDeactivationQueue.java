@@ -0,0 +1,196 @@
+package org.example.qafordevs.writebehind;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind queue for developer deactivations.
+ * <p>
+ * Callers enqueue an id and get a future; a background worker drains the queue, merges repeated ids and
+ * applies each batch with one UPDATE. The queue is bounded by permits, so callers wait for room and are
+ * rejected when none frees up in time. Deactivations queued before shutdown are applied before the
+ * application context closes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "developers.write-behind", name = "enabled", havingValue = "true")
+public class DeveloperDeactivationQueue implements DisposableBean {
+
+    private final DeveloperRepository developerRepository;
+    private final ArchivedDeveloperRepository archivedDeveloperRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final int queueCapacity;
+
+    private final Queue<Deactivation> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore capacity;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public DeveloperDeactivationQueue(DeveloperRepository developerRepository,
+                                      ArchivedDeveloperRepository archivedDeveloperRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      ApplicationEventPublisher eventPublisher,
+                                      DeveloperProperties developerProperties) {
+        DeveloperProperties.WriteBehind writeBehind = developerProperties.getWriteBehind();
+        this.developerRepository = developerRepository;
+        this.archivedDeveloperRepository = archivedDeveloperRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = writeBehind.getBatchSize();
+        this.flushIntervalNanos = writeBehind.getFlushInterval().toNanos();
+        this.offerTimeoutNanos = writeBehind.getOfferTimeout().toNanos();
+        this.queueCapacity = writeBehind.getCapacity();
+        this.capacity = new Semaphore(queueCapacity);
+        this.worker = Thread.ofPlatform().name("developer-deactivation-writer").daemon().start(this::run);
+    }
+
+    /**
+     * @return completes once the developer is deactivated or found in the archive, or exceptionally with
+     * {@link DeveloperNotFoundException} when there is no developer with this id
+     * @throws RejectedExecutionException when the queue stays full for the offer timeout or is shut down
+     */
+    public CompletableFuture<Void> submit(Integer id) {
+        if (!running) {
+            throw new RejectedExecutionException("Developer deactivation queue is shut down");
+        }
+        try {
+            if (!capacity.tryAcquire(offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Developer deactivation queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the developer deactivation queue", e);
+        }
+        Deactivation deactivation = new Deactivation(id, new CompletableFuture<>());
+        queue.add(deactivation);
+        // the worker may have drained its last batch between the check above and the add
+        if (!running && queue.remove(deactivation)) {
+            capacity.release();
+            throw new RejectedExecutionException("Developer deactivation queue is shut down");
+        }
+        if (queued() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+        return deactivation.result();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+        int failed = failQueued();
+        if (failed > 0) {
+            log.warn("{} developer deactivations were not applied before shutdown", failed);
+        }
+    }
+
+    private void run() {
+        List<Deactivation> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Deactivation next;
+                while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                    batch.add(next);
+                }
+                if (batch.isEmpty()) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                    continue;
+                }
+                capacity.release(batch.size());
+                apply(batch);
+                batch.clear();
+                if (running && queued() < batchSize) {
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+            }
+        } finally {
+            // a dead worker must not leave callers waiting on futures nobody completes
+            running = false;
+            failQueued();
+        }
+    }
+
+    private int failQueued() {
+        RejectedExecutionException shutDown = new RejectedExecutionException("Developer deactivation queue is shut down");
+        int failed = 0;
+        Deactivation deactivation;
+        while ((deactivation = queue.poll()) != null) {
+            capacity.release();
+            deactivation.result().completeExceptionally(shutDown);
+            failed++;
+        }
+        return failed;
+    }
+
+    // ConcurrentLinkedQueue.size() walks the whole queue, the taken permits give the same count for free
+    private int queued() {
+        return queueCapacity - capacity.availablePermits();
+    }
+
+    private void apply(List<Deactivation> batch) {
+        Map<Integer, List<CompletableFuture<Void>>> callersById = new LinkedHashMap<>();
+        batch.forEach(deactivation -> callersById
+            .computeIfAbsent(deactivation.id(), id -> new ArrayList<>(1))
+            .add(deactivation.result()));
+        try {
+            Set<Integer> existing = transactionTemplate.execute(status -> {
+                Set<Integer> ids = new HashSet<>(developerRepository.findExistingIds(callersById.keySet()));
+                if (!ids.isEmpty()) {
+                    developerRepository.deactivateAllByIds(ids);
+                    ids.forEach(id -> eventPublisher.publishEvent(DeveloperChangedEvent.deactivated(id, null)));
+                }
+                // archived developers are deactivated already, as for DeveloperService.deactivateDeveloperById
+                if (ids.size() < callersById.size()) {
+                    Set<Integer> missing = new HashSet<>(callersById.keySet());
+                    missing.removeAll(ids);
+                    ids.addAll(archivedDeveloperRepository.findExistingIds(missing));
+                }
+                return ids;
+            });
+            callersById.forEach((id, callers) -> {
+                if (existing.contains(id)) {
+                    callers.forEach(caller -> caller.complete(null));
+                } else {
+                    DeveloperNotFoundException notFound = DeveloperNotFoundException.byId(id);
+                    callers.forEach(caller -> caller.completeExceptionally(notFound));
+                }
+            });
+        } catch (Throwable e) {
+            log.error("Failed to apply {} developer deactivations", callersById.size(), e);
+            callersById.values().forEach(callers -> callers.forEach(caller -> caller.completeExceptionally(e)));
+        }
+    }
+
+    private record Deactivation(Integer id, CompletableFuture<Void> result) {
+    }
+
+}
@@ -0,0 +1,12 @@
+CREATE TABLE developers
+(
+    id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255),
+    speciality VARCHAR(255),
+    status     VARCHAR(255),
+    CONSTRAINT uk_developers_email UNIQUE (email)
+);
+
+CREATE INDEX idx_developers_speciality_status ON developers (speciality, status);
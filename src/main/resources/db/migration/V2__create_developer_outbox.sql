@@ -0,0 +1,11 @@
+CREATE TABLE developer_outbox
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type         VARCHAR(255),
+    developer_id INTEGER,
+    payload      VARCHAR(4000),
+    created_at   TIMESTAMP(6) WITH TIME ZONE,
+    published_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX idx_developer_outbox_published_at ON developer_outbox (published_at);
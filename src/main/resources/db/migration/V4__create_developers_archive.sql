@@ -0,0 +1,11 @@
+CREATE TABLE developers_archive
+(
+    id          INTEGER PRIMARY KEY,
+    first_name  VARCHAR(255),
+    last_name   VARCHAR(255),
+    email       VARCHAR(255),
+    speciality  VARCHAR(255),
+    status      VARCHAR(255),
+    version     BIGINT                      NOT NULL,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
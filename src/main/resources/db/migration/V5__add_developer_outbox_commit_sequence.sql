@@ -0,0 +1,4 @@
+ALTER TABLE developer_outbox ADD COLUMN commit_sequence BIGINT;
+
+-- also keeps two sequencers from handing out the same positions
+CREATE UNIQUE INDEX uk_developer_outbox_commit_sequence ON developer_outbox (commit_sequence);
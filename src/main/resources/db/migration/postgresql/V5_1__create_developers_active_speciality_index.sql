@@ -0,0 +1,3 @@
+-- Postgres only: active developers by speciality are read from an index of the ACTIVE rows alone.
+-- Other databases keep idx_developers_speciality_status.
+CREATE INDEX idx_developers_active_speciality ON developers (speciality) WHERE status = 'ACTIVE';
@@ -0,0 +1,111 @@
+package org.example.qafordevs.tests.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.qafordevs.archive.DeveloperArchiver;
+import org.example.qafordevs.dto.DeveloperDto;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "developers.archive.enabled=true",
+    // the test drives the archiver itself
+    "developers.archive.interval=PT1H"
+})
+@AutoConfigureMockMvc
+@DisplayName("Developer archive rest tests")
+public class DeveloperArchiveRestTests {
+
+    private static final String EMAIL = "john.doe@mail.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Autowired
+    private DeveloperArchiver archiver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        archivedDeveloperRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("Test email of a deleted developer is taken until it is archived functionality")
+    public void givenDeletedDeveloper_whenArchived_thenEmailIsReleasedAndIdStillResolves() throws Exception {
+        //given
+        String body = objectMapper.writeValueAsString(DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoeTransient()));
+        DeveloperDto created = objectMapper.readValue(mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(), DeveloperDto.class);
+        mockMvc.perform(delete("/api/v1/developers/" + created.getId()))
+            .andExpect(status().isNoContent());
+        //when
+        //then
+        mockMvc.perform(post("/api/v1/developers").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/v1/developers/email/" + EMAIL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(Status.DELETED.name()));
+
+        archiver.archiveDeleted();
+
+        mockMvc.perform(get("/api/v1/developers/" + created.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(Status.DELETED.name()));
+        // the deleted developer was cached by email before it was archived
+        mockMvc.perform(get("/api/v1/developers/email/" + EMAIL))
+            .andExpect(status().isNotFound());
+        DeveloperDto recreated = objectMapper.readValue(mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(), DeveloperDto.class);
+        mockMvc.perform(get("/api/v1/developers/email/" + EMAIL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(recreated.getId()))
+            .andExpect(jsonPath("$.status").value(Status.ACTIVE.name()));
+        mockMvc.perform(get("/api/v1/developers/" + created.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(Status.DELETED.name()));
+        // bringing the archived developer back would take the email a second time
+        mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(created)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Developer with email " + EMAIL + " already exists"));
+    }
+
+}
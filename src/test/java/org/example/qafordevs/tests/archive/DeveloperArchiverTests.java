@@ -0,0 +1,107 @@
+package org.example.qafordevs.tests.archive;
+
+import org.example.qafordevs.archive.DeveloperArchiver;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "developers.archive.enabled=true",
+    // the test drives the archiver itself
+    "developers.archive.interval=PT1H",
+    "developers.archive.batch-size=2",
+    "spring.cache.type=none"
+})
+@DisplayName("Developer archiver tests")
+public class DeveloperArchiverTests {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Autowired
+    private DeveloperArchiver archiver;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        archivedDeveloperRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test deleted developers are moved to the archive in batches functionality")
+    public void givenDeletedDevelopers_whenArchiveDeleted_thenOnlyActiveDevelopersStay() {
+        //given
+        List<DeveloperEntity> developers = new ArrayList<>();
+        for (int index = 1; index <= 6; index++) {
+            developers.add(developerService.saveDeveloper(
+                EntityGenerator.getDeveloperTransient(index).toBuilder().status(Status.ACTIVE).build()
+            ));
+        }
+        developers.subList(0, 5).forEach(developer -> developerService.deactivateDeveloperById(developer.getId()));
+        //when
+        int archived = archiver.archiveDeleted();
+        //then
+        assertThat(archived).isEqualTo(5);
+        assertThat(developerRepository.findAll()).extracting(DeveloperEntity::getId)
+            .containsExactly(developers.get(5).getId());
+        assertThat(archivedDeveloperRepository.count()).isEqualTo(5);
+        assertThat(archiver.archiveDeleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test archived developer lookups functionality")
+    public void givenArchivedDeveloper_whenGetDeveloperById_thenItIsFoundAsDeleted() {
+        //given
+        DeveloperEntity developer = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        developerService.deactivateDeveloperById(developer.getId());
+        archiver.archiveDeleted();
+        //when
+        DeveloperEntity obtainedDeveloper = developerService.getDeveloperById(developer.getId());
+        //then
+        assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.DELETED);
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo(developer.getEmail());
+        assertThat(developerService.getAllDevelopers()).isEmpty();
+        developerService.deactivateDeveloperById(developer.getId());
+        developerService.deleteDeveloperById(developer.getId());
+        assertThat(developerService.findDeveloperById(developer.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test archived developer update and async deactivation functionality")
+    public void givenArchivedDeveloper_whenUpdatedOrDeactivatedAsync_thenItBehavesAsBeforeArchiving() throws Exception {
+        //given
+        DeveloperEntity developer = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        developerService.deactivateDeveloperById(developer.getId());
+        archiver.archiveDeleted();
+        //when
+        developerService.deactivateDeveloperByIdAsync(developer.getId()).get(5, TimeUnit.SECONDS);
+        DeveloperEntity archived = developerService.getDeveloperById(developer.getId());
+        DeveloperEntity restored = developerService.updateDeveloper(archived.toBuilder().status(Status.ACTIVE).build());
+        //then
+        assertThat(restored.getVersion()).isEqualTo(archived.getVersion() + 1);
+        assertThat(archivedDeveloperRepository.existsById(developer.getId())).isFalse();
+        assertThat(developerService.getDeveloperById(developer.getId()).getStatus()).isEqualTo(Status.ACTIVE);
+        assertThat(developerService.getAllDevelopers()).extracting(DeveloperEntity::getId).containsExactly(developer.getId());
+    }
+
+}
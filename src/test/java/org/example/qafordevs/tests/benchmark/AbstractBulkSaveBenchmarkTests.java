@@ -0,0 +1,60 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.dto.DeveloperBulkSaveReport;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class AbstractBulkSaveBenchmarkTests {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        new JdbcTemplate(dataSource).execute("DELETE FROM developers");
+    }
+
+    @Test
+    public void compareSingleRowAndBulkSave() {
+        List<DeveloperEntity> singleRowDevelopers = developers(0);
+        long start = System.nanoTime();
+        singleRowDevelopers.forEach(developerService::saveDeveloper);
+        long singleRowNanos = System.nanoTime() - start;
+
+        List<DeveloperEntity> bulkDevelopers = developers(ROWS);
+        start = System.nanoTime();
+        DeveloperBulkSaveReport report = developerService.saveDevelopers(bulkDevelopers);
+        long bulkNanos = System.nanoTime() - start;
+
+        System.out.printf("%s rows=%d single-row=%.0f rows/s bulk=%.0f rows/s%n",
+            getClass().getSimpleName(), ROWS, rowsPerSecond(singleRowNanos), rowsPerSecond(bulkNanos));
+        assertThat(report.count(DeveloperBulkSaveReport.Outcome.SAVED)).isEqualTo(ROWS);
+    }
+
+    private static List<DeveloperEntity> developers(int offset) {
+        return IntStream.range(offset, offset + ROWS)
+            .mapToObj(EntityGenerator::getDeveloperTransient)
+            .toList();
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000.0 / nanos;
+    }
+
+}
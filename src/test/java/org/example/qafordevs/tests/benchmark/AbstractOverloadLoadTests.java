@@ -0,0 +1,175 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Overload test: point clients first look developers up by id on an idle server to get a baseline, then list
+ * clients flood the full-table endpoints while the point clients keep going, both closed-loop for a fixed time.
+ * Subclasses check the point lookup p99 under overload against the baseline; every run reports both latencies,
+ * the failed point lookups and how the list requests ended.
+ */
+public abstract class AbstractOverloadLoadTests {
+
+    private static final int ROWS = 20_000;
+    private static final int LIST_CLIENTS = 200;
+    private static final int POINT_CLIENTS = 50;
+    private static final Duration BASELINE_DURATION = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(20);
+    private static final String[] LIST_PATHS = {
+        "/api/v1/developers/all",
+        "/api/v1/developers/speciality/Java"
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final AtomicLong listServed = new AtomicLong();
+    private final AtomicLong listRejected = new AtomicLong();
+    private final AtomicLong pointFailures = new AtomicLong();
+
+    /**
+     * @param pointFailures point lookups under overload that did not answer 200
+     */
+    protected abstract void verifyPointLookups(double baselineP99Millis, double overloadP99Millis, long pointFailures);
+
+    @Test
+    public void measurePointLookupLatencyUnderListOverload(TestReporter reporter) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DeveloperDataSeeder.seed(jdbcTemplate, ROWS);
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM developers ORDER BY id LIMIT 1000", Integer.class);
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        long[] baseline = runPointClients(client, ids, BASELINE_DURATION, 0);
+        long baselineFailures = pointFailures.getAndSet(0);
+        long[] overload = runPointClients(client, ids, DURATION, LIST_CLIENTS);
+
+        assertThat(baseline).isNotEmpty();
+        assertThat(baselineFailures).isZero();
+        double baselineP99 = percentileMillis(baseline, 0.99);
+        double overloadP99 = percentileMillis(overload, 0.99);
+        Map<String, String> report = new LinkedHashMap<>();
+        report.put("baseline requests", String.valueOf(baseline.length));
+        report.put("baseline p99 ms", String.format("%.1f", baselineP99));
+        report.put("overload requests", String.valueOf(overload.length));
+        report.put("overload p50 ms", String.format("%.1f", percentileMillis(overload, 0.5)));
+        report.put("overload p99 ms", String.format("%.1f", overloadP99));
+        report.put("point failures", String.valueOf(pointFailures.get()));
+        report.put("list served", String.valueOf(listServed.get()));
+        report.put("list rejected", String.valueOf(listRejected.get()));
+        reporter.publishEntry(report);
+
+        verifyPointLookups(baselineP99, overloadP99, pointFailures.get());
+    }
+
+    /**
+     * @return sorted latencies of the point lookups that answered 200
+     */
+    private long[] runPointClients(HttpClient client, List<Integer> ids, Duration duration, int listClients) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < listClients; i++) {
+                int clientIndex = i;
+                clients.submit(() -> runListClient(client, clientIndex, deadline));
+            }
+            for (int i = 0; i < POINT_CLIENTS; i++) {
+                results.add(clients.submit(() -> runPointClient(client, ids, deadline)));
+            }
+        }
+        return results.stream()
+            .map(AbstractOverloadLoadTests::join)
+            .flatMapToLong(Arrays::stream)
+            .sorted()
+            .toArray();
+    }
+
+    private Void runListClient(HttpClient client, int clientIndex, long deadline) throws Exception {
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + LIST_PATHS[(clientIndex + count++) % LIST_PATHS.length])
+            ).build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status == 200) {
+                listServed.incrementAndGet();
+            } else if (status == 503) {
+                listRejected.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private long[] runPointClient(HttpClient client, List<Integer> ids, long deadline) throws InterruptedException {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            Integer id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+            HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/developers/" + id)
+            ).build();
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            }
+            long latency = System.nanoTime() - start;
+            if (status != 200) {
+                pointFailures.incrementAndGet();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return Double.NaN;
+        }
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, sortedLatencies.length * percentile)] / 1_000_000.0;
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
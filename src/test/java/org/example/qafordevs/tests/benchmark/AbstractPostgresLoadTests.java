@@ -0,0 +1,23 @@
+package org.example.qafordevs.tests.benchmark;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Load on Postgres dominated by point lookups, with the cache off so every request reaches the database.
+ * Subclasses own the container so each profile runs against a fresh server, compare them with
+ * {@code ./gradlew benchmark --tests '*Postgres*ProfileLoadTests'}.
+ */
+public abstract class AbstractPostgresLoadTests extends AbstractThreadModelLoadTests {
+
+    private static final String[] PATHS = Stream.concat(
+        IntStream.range(0, 64).mapToObj(index -> "/api/v1/developers/email/developer" + (index * 311 + 1) + "@mail.com"),
+        Stream.of("/api/v1/developers/page?size=50", "/api/v1/developers/speciality/Java/contacts")
+    ).toArray(String[]::new);
+
+    @Override
+    protected String[] paths() {
+        return PATHS;
+    }
+
+}
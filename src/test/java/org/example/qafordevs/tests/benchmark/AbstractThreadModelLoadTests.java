@@ -0,0 +1,108 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load test: a fixed number of clients send requests back to back
+ * for a fixed time against endpoints that block on the database.
+ */
+public abstract class AbstractThreadModelLoadTests {
+
+    private static final int ROWS = 20_000;
+    private static final int CLIENTS = 400;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+    private static final String[] PATHS = {
+        "/api/v1/developers/speciality/Java/contacts",
+        "/api/v1/developers/page?size=50",
+        "/api/v1/developers/email/developer42@mail.com"
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void measureThroughputAndLatency() throws Exception {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), ROWS);
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                int clientIndex = i;
+                results.add(clients.submit(() -> runClient(client, clientIndex, deadline)));
+            }
+        }
+
+        long[] latencies = results.stream()
+            .map(AbstractThreadModelLoadTests::join)
+            .flatMapToLong(Arrays::stream)
+            .sorted()
+            .toArray();
+        System.out.printf("%s requests=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms%n",
+            getClass().getSimpleName(), latencies.length, latencies.length / (double) DURATION.toSeconds(),
+            latencies[latencies.length / 2] / 1_000_000.0, latencies[(int) (latencies.length * 0.99)] / 1_000_000.0);
+        assertThat(latencies).isNotEmpty();
+    }
+
+    /**
+     * Endpoints the clients cycle through.
+     */
+    protected String[] paths() {
+        return PATHS;
+    }
+
+    private long[] runClient(HttpClient client, int clientIndex, long deadline) throws Exception {
+        String[] paths = paths();
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + paths[(clientIndex + count) % paths.length])
+            ).build();
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() == 200) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = latency;
+            }
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Active by speciality benchmark")
+public class ActiveBySpecialityBenchmarkTests {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Indexed entity and projection queries on one million rows")
+    public void activeBySpecialityOnMillionRows() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DeveloperDataSeeder.seed(jdbcTemplate, ROWS);
+        jdbcTemplate.execute("ANALYZE");
+
+        String plan = jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT id, email FROM developers WHERE status = 'ACTIVE' AND speciality = 'Rust'", String.class
+        );
+        System.out.println(plan);
+
+        long entityNanos = measure(() -> developerRepository.findAllActiveBySpeciality("Rust").size());
+        long projectionNanos = measure(() -> developerRepository.findAllActiveContactsBySpeciality("Rust").size());
+        System.out.printf("rows=%d entity=%dms projection=%dms%n",
+            ROWS, entityNanos / 1_000_000, projectionNanos / 1_000_000);
+
+        assertThat(plan.toLowerCase(Locale.ROOT)).contains(DeveloperEntity.SPECIALITY_STATUS_INDEX);
+    }
+
+    private static long measure(IntSupplier query) {
+        query.getAsInt();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.getAsInt();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+}
@@ -0,0 +1,11 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Bulk save benchmark on H2")
+public class BulkSaveH2BenchmarkTests extends AbstractBulkSaveBenchmarkTests {
+}
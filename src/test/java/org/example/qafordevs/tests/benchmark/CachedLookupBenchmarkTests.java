@@ -0,0 +1,65 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Cached lookup benchmark")
+public class CachedLookupBenchmarkTests {
+
+    private static final int ROWS = 10_000;
+    private static final int HOT_KEYS = 1_000;
+    private static final int LOOKUPS = 200_000;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Cached vs uncached lookup latency")
+    public void compareCachedAndUncachedLookups() {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), ROWS);
+        List<Integer> ids = developerRepository.findAll().stream()
+            .map(DeveloperEntity::getId)
+            .limit(HOT_KEYS)
+            .toList();
+
+        long uncached = measure(index -> developerRepository.findById(ids.get(index)));
+        long cachedById = measure(index -> developerService.getDeveloperById(ids.get(index)));
+        long cachedByEmail = measure(index -> developerService.getDeveloperByEmail("developer" + index + "@mail.com"));
+
+        System.out.printf("avg lookup: uncached=%dns cached-by-id=%dns cached-by-email=%dns%n",
+            uncached, cachedById, cachedByEmail);
+    }
+
+    private static long measure(IntConsumer lookup) {
+        for (int i = 0; i < HOT_KEYS; i++) {
+            lookup.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookup.accept(ThreadLocalRandom.current().nextInt(HOT_KEYS));
+        }
+        return (System.nanoTime() - start) / LOOKUPS;
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.dto.ExportFormat;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Run with a small heap to check the export stays flat, e.g.
+ * {@code ./gradlew benchmark --tests '*ExportDevelopersBenchmarkTests' -PbenchmarkHeap=256m}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Export developers benchmark")
+public class ExportDevelopersBenchmarkTests {
+
+    private static final int ROWS = 1_000_000;
+    private static final long SAMPLE_EVERY_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @ParameterizedTest
+    @EnumSource(ExportFormat.class)
+    @DisplayName("Export one million developers")
+    public void exportMillionDevelopers(ExportFormat format) {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), ROWS);
+        HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream();
+
+        long start = System.nanoTime();
+        long exported = developerService.exportActiveDevelopers(format, outputStream);
+        long nanos = System.nanoTime() - start;
+
+        System.out.printf("format=%s rows=%d bytes=%d time=%dms max-heap-used=%dMB%n",
+            format, exported, outputStream.bytes, nanos / 1_000_000, outputStream.maxHeapUsed / (1024 * 1024));
+        assertThat(exported).isEqualTo(ROWS - ROWS / 4);
+    }
+
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private long bytes;
+        private long maxHeapUsed;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            long before = bytes / SAMPLE_EVERY_BYTES;
+            bytes += len;
+            if (bytes / SAMPLE_EVERY_BYTES != before) {
+                maxHeapUsed = Math.max(maxHeapUsed, memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+    }
+
+}
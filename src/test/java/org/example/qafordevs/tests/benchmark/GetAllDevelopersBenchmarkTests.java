@@ -0,0 +1,71 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Get all developers benchmark")
+public class GetAllDevelopersBenchmarkTests {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    @DisplayName("Full load with in-memory filter vs keyset pages")
+    public void compareFullLoadWithKeysetPages(int rows) {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), rows);
+
+        long start = System.nanoTime();
+        long fullLoadActive = developerRepository.findAll().stream()
+            .filter(developer -> developer.getStatus().equals(Status.ACTIVE))
+            .count();
+        long fullLoadNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long filteredActive = developerRepository.findAllByStatus(Status.ACTIVE).size();
+        long filteredNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long keysetActive = 0;
+        int maxPageRows = 0;
+        List<DeveloperEntity> page = developerRepository.findAllActiveAfterId(0, PageRequest.ofSize(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            keysetActive += page.size();
+            maxPageRows = Math.max(maxPageRows, page.size());
+            page = developerRepository.findAllActiveAfterId(page.get(page.size() - 1).getId(), PageRequest.ofSize(PAGE_SIZE));
+        }
+        long keysetNanos = System.nanoTime() - start;
+
+        System.out.printf("rows=%d full-load=%dms sql-filter=%dms keyset(%d per page)=%dms%n",
+            rows, fullLoadNanos / 1_000_000, filteredNanos / 1_000_000, PAGE_SIZE, keysetNanos / 1_000_000);
+        assertThat(filteredActive).isEqualTo(fullLoadActive);
+        assertThat(keysetActive).isEqualTo(fullLoadActive);
+        assertThat(maxPageRows).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.example.qafordevs.tests.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.metrics.DeveloperMetricsAspect;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+
+@Tag("benchmark")
+@DisplayName("Metrics overhead benchmark")
+public class MetricsOverheadBenchmarkTests {
+
+    /**
+     * Budget for the time the metrics aspect adds to one getDeveloperById call.
+     */
+    private static final long OVERHEAD_BUDGET_NANOS = 2_000;
+    private static final int CALLS = 1_000_000;
+
+    @Test
+    @DisplayName("Instrumentation overhead on getDeveloperById stays within budget")
+    public void instrumentationOverheadOnGetDeveloperById() {
+        DeveloperService developerService = mock(DeveloperService.class);
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        BDDMockito.given(developerService.getDeveloperById(anyInt())).willReturn(developer);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(developerService);
+        factory.addAspect(new DeveloperMetricsAspect(new SimpleMeterRegistry()));
+        DeveloperService instrumentedService = factory.getProxy();
+
+        measure(developerService);
+        measure(instrumentedService);
+        long plain = measure(developerService);
+        long instrumented = measure(instrumentedService);
+
+        System.out.printf("getDeveloperById: plain=%dns instrumented=%dns overhead=%dns budget=%dns%n",
+            plain, instrumented, instrumented - plain, OVERHEAD_BUDGET_NANOS);
+        assertThat(instrumented - plain).isLessThan(OVERHEAD_BUDGET_NANOS);
+    }
+
+    private static long measure(DeveloperService developerService) {
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            developerService.getDeveloperById(i);
+        }
+        return (System.nanoTime() - start) / CALLS;
+    }
+
+}
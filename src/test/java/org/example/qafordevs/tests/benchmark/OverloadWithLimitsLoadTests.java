@@ -0,0 +1,34 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.cache.type=none",
+        "developers.limits.enabled=true"
+    }
+)
+@DisplayName("Overload test with bulkheads, rate limits and load shedding")
+public class OverloadWithLimitsLoadTests extends AbstractOverloadLoadTests {
+
+    /**
+     * Point lookups may slow down with the CPU the list clients take, but shedding has to keep them within
+     * this factor of their idle p99, plus a fixed allowance for scheduling noise.
+     */
+    private static final double MAX_P99_SLOWDOWN = 10;
+    private static final double P99_ALLOWANCE_MILLIS = 50;
+
+    @Override
+    protected void verifyPointLookups(double baselineP99Millis, double overloadP99Millis, long pointFailures) {
+        assertThat(pointFailures).isZero();
+        assertThat(overloadP99Millis).isLessThanOrEqualTo(baselineP99Millis * MAX_P99_SLOWDOWN + P99_ALLOWANCE_MILLIS);
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.cache.type=none"
+    }
+)
+@DisplayName("Overload test without limits")
+public class OverloadWithoutLimitsLoadTests extends AbstractOverloadLoadTests {
+
+    /**
+     * The reference run: without limits the list clients are expected to drag point lookups well past their idle
+     * p99, which is what {@link OverloadWithLimitsLoadTests} has to prevent.
+     */
+    @Override
+    protected void verifyPointLookups(double baselineP99Millis, double overloadP99Millis, long pointFailures) {
+        if (Double.isNaN(overloadP99Millis)) {
+            // not one lookup answered 200
+            assertThat(pointFailures).isPositive();
+            return;
+        }
+        assertThat(overloadP99Millis).isGreaterThan(baselineP99Millis);
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.threads.virtual.enabled=false"
+)
+@DisplayName("Load test on platform threads")
+public class PlatformThreadsLoadTests extends AbstractThreadModelLoadTests {
+}
@@ -0,0 +1,84 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.ref.Reference;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Heap retained by a list result while its transaction is still open, so the persistence context is counted too.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Projection memory benchmark")
+public class ProjectionMemoryBenchmarkTests {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Retained bytes per row of entities vs projections")
+    public void compareRetainedBytesPerRow() {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), ROWS);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long entities = readWrite.execute(status -> retainedPerRow(() -> developerRepository.findAllByStatus(Status.ACTIVE)));
+        long readOnlyEntities = readOnly.execute(status -> retainedPerRow(() -> developerRepository.findAllByStatus(Status.ACTIVE)));
+        long views = readOnly.execute(status -> retainedPerRow(() -> developerRepository.findAllActiveViews(null, Set.of())));
+        long idAndEmail = readOnly.execute(status -> retainedPerRow(() -> developerRepository.findAllActiveViews(
+            null, EnumSet.of(DeveloperField.ID, DeveloperField.EMAIL)
+        )));
+
+        System.out.printf("rows=%d retained bytes per row: entity=%d read-only-entity=%d view=%d view(id,email)=%d%n",
+            ROWS, entities, readOnlyEntities, views, idAndEmail);
+        assertThat(views).isLessThan(entities);
+        assertThat(idAndEmail).isLessThan(views);
+    }
+
+    private static long retainedPerRow(Supplier<? extends Collection<?>> load) {
+        long before = usedAfterGc();
+        Collection<?> result = load.get();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(result);
+        return (after - before) / Math.max(1, result.size());
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Save developer benchmark")
+public class SaveDeveloperBenchmarkTests {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Check-then-save vs constraint-backed save latency")
+    public void compareCheckThenSaveWithConstraintBackedSave() {
+        long[] checkThenSave = new long[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+            DeveloperEntity developer = EntityGenerator.getDeveloperTransient(index);
+            long start = System.nanoTime();
+            if (Objects.isNull(developerRepository.findByEmail(developer.getEmail()))) {
+                developerRepository.save(developer);
+            }
+            checkThenSave[index] = System.nanoTime() - start;
+        }
+
+        long[] constraintBacked = new long[ROWS];
+        for (int index = 0; index < ROWS; index++) {
+            DeveloperEntity developer = EntityGenerator.getDeveloperTransient(ROWS + index);
+            long start = System.nanoTime();
+            developerService.saveDeveloper(developer);
+            constraintBacked[index] = System.nanoTime() - start;
+        }
+
+        System.out.printf("check-then-save p50=%dus p99=%dus, constraint-backed p50=%dus p99=%dus%n",
+            percentile(checkThenSave, 50), percentile(checkThenSave, 99),
+            percentile(constraintBacked, 50), percentile(constraintBacked, 99));
+    }
+
+    private static long percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(sorted.length - 1) * percentile / 100] / 1_000;
+    }
+
+}
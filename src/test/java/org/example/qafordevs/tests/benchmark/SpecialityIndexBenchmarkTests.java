@@ -0,0 +1,69 @@
+package org.example.qafordevs.tests.benchmark;
+
+import org.example.qafordevs.index.DeveloperSpecialityIndex;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.DeveloperDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "developers.speciality-index.enabled=true"
+)
+@DisplayName("Speciality index benchmark")
+public class SpecialityIndexBenchmarkTests {
+
+    private static final int ROWS = 100_000;
+    private static final int ITERATIONS = 2_000;
+    private static final String[] SPECIALITIES = {"Java", "Kotlin", "Go", "Python", "JavaScript", "C++", "Rust", "Scala"};
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperSpecialityIndex specialityIndex;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Index vs repository query")
+    public void compareIndexWithRepositoryQuery() {
+        DeveloperDataSeeder.seed(new JdbcTemplate(dataSource), ROWS);
+        specialityIndex.build();
+
+        long repositoryNanos = measure(i -> developerRepository.findAllActiveBySpeciality(SPECIALITIES[i % SPECIALITIES.length]).size());
+        long indexNanos = measure(i -> developerService.getAllActiveBySpeciality(SPECIALITIES[i % SPECIALITIES.length]).size());
+
+        System.out.printf("rows=%d avg per call: repository=%dus index=%dus%n",
+            ROWS, repositoryNanos / 1_000, indexNanos / 1_000);
+        assertThat(developerService.getAllActiveBySpeciality("Java"))
+            .hasSameSizeAs(developerRepository.findAllActiveBySpeciality("Java"));
+    }
+
+    private static long measure(IntFunction<Integer> query) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            query.apply(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.apply(i);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.example.qafordevs.tests.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // keeps the background sequencer's queries out of the counted statements
+        "developers.outbox.sequence-interval=PT1H"
+    }
+)
+@DisplayName("Write round trips benchmark")
+public class WriteRoundTripsBenchmarkTests {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Statements per update, deactivate and delete")
+    public void countStatementsPerWrite() {
+        DeveloperEntity developer = developerRepository.save(EntityGenerator.getDeveloperJohnDoeTransient());
+
+        long before = statements(() -> {
+            if (developerRepository.existsById(developer.getId())) {
+                developerRepository.save(developer);
+            }
+        });
+        long after = statements(() -> developerService.updateDeveloper(developer));
+        System.out.printf("update: before=%d after=%d statements%n", before, after);
+        assertThat(after).isEqualTo(1);
+
+        before = statements(() -> {
+            DeveloperEntity loaded = developerRepository.findById(developer.getId()).orElseThrow();
+            loaded.setStatus(Status.DELETED);
+            developerRepository.save(loaded);
+        });
+        after = statements(() -> developerService.deactivateDeveloperById(developer.getId()));
+        System.out.printf("deactivate: before=%d after=%d statements%n", before, after);
+        assertThat(after).isEqualTo(1);
+
+        DeveloperEntity other = developerRepository.save(EntityGenerator.getDeveloperMikeSmithTransient());
+        before = statements(() -> {
+            DeveloperEntity loaded = developerRepository.findById(other.getId()).orElseThrow();
+            developerRepository.deleteById(loaded.getId());
+        });
+        after = statements(() -> developerService.deleteDeveloperById(developer.getId()));
+        System.out.printf("delete: before=%d after=%d statements%n", before, after);
+        assertThat(after).isEqualTo(1);
+    }
+
+    private long statements(Runnable operation) {
+        statistics.clear();
+        operation.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
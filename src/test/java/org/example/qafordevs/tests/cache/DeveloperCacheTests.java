@@ -0,0 +1,186 @@
+package org.example.qafordevs.tests.cache;
+
+import org.example.qafordevs.cache.DeveloperCache;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Developer cache tests")
+public class DeveloperCacheTests {
+
+    private DeveloperCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = new DeveloperCache(
+            new ConcurrentMapCacheManager(DeveloperCache.DEVELOPERS, DeveloperCache.DEVELOPER_IDS_BY_EMAIL),
+            new DeveloperProperties()
+        );
+    }
+
+    @Test
+    @DisplayName("Test get cached developer by id and email functionality")
+    public void givenDeveloperPut_whenGetByIdAndEmail_thenCopiesAreReturned() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        cacheUnderTest.put(developer);
+        //when
+        DeveloperEntity obtainedById = cacheUnderTest.getById(1).orElse(null);
+        DeveloperEntity obtainedByEmail = cacheUnderTest.getByEmail("john.doe@mail.com").orElse(null);
+        //then
+        assertThat(obtainedById).isEqualTo(developer).isNotSameAs(developer);
+        assertThat(obtainedByEmail).isEqualTo(developer).isNotSameAs(obtainedById);
+    }
+
+    @Test
+    @DisplayName("Test cached developer is not changed by caller functionality")
+    public void givenDeveloperPut_whenCallerChangesReturnedDeveloper_thenCachedDeveloperIsUnchanged() {
+        //given
+        cacheUnderTest.put(EntityGenerator.getDeveloperJohnDoePersisted());
+        //when
+        cacheUnderTest.getById(1).orElseThrow().setEmail("changed@mail.com");
+        //then
+        assertThat(cacheUnderTest.getById(1).orElseThrow().getEmail()).isEqualTo("john.doe@mail.com");
+    }
+
+    @Test
+    @DisplayName("Test developer changed event evicts developer functionality")
+    public void givenDeveloperPut_whenDeveloperChangedEvent_thenDeveloperIsEvicted() {
+        //given
+        cacheUnderTest.put(EntityGenerator.getDeveloperJohnDoePersisted());
+        //when
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.deleted(1));
+        //then
+        assertThat(cacheUnderTest.getById(1)).isEmpty();
+        assertThat(cacheUnderTest.getByEmail("john.doe@mail.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test email taken by another developer is not served from the cache functionality")
+    public void givenEmailCachedForRemovedDeveloper_whenDeveloperCreatedWithIt_thenEmailMappingIsEvicted() {
+        //given
+        cacheUnderTest.put(EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().status(Status.DELETED).build());
+        DeveloperEntity created = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().id(2).build();
+        //when
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.created(created));
+        //then
+        assertThat(cacheUnderTest.getByEmail("john.doe@mail.com")).isEmpty();
+        assertThat(cacheUnderTest.getById(1)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test old email is not served after email change functionality")
+    public void givenEmailChanged_whenGetByOldEmail_thenNothingIsReturned() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        cacheUnderTest.put(developer);
+        developer.setEmail("updated@mail.com");
+        //when
+        cacheUnderTest.put(developer);
+        //then
+        assertThat(cacheUnderTest.getByEmail("john.doe@mail.com")).isEmpty();
+        assertThat(cacheUnderTest.getByEmail("updated@mail.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test developer loaded before a change is not cached after it functionality")
+    public void givenDeveloperLoadedBeforeChange_whenPutAfterChange_thenOnlyNewVersionIsCached() {
+        //given
+        DeveloperEntity loadedBeforeChange = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(1L).build();
+        DeveloperEntity changed = loadedBeforeChange.toBuilder().speciality("Kotlin").version(2L).build();
+        //when
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.updated(changed));
+        cacheUnderTest.put(loadedBeforeChange);
+        //then
+        assertThat(cacheUnderTest.getById(1)).isEmpty();
+        cacheUnderTest.put(changed);
+        assertThat(cacheUnderTest.getById(1)).contains(changed);
+    }
+
+    @Test
+    @DisplayName("Test older version does not replace cached developer functionality")
+    public void givenNewerVersionCached_whenPutOlderVersion_thenNewerVersionIsKept() {
+        //given
+        DeveloperEntity newer = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(3L).build();
+        cacheUnderTest.put(newer);
+        //when
+        cacheUnderTest.put(newer.toBuilder().speciality("Kotlin").version(2L).build());
+        //then
+        assertThat(cacheUnderTest.getById(1)).contains(newer);
+    }
+
+    @Test
+    @DisplayName("Test change without version holds off puts until tombstone expires functionality")
+    public void givenChangeWithoutVersion_whenTombstoneExpired_thenDeveloperIsCachedAgain() {
+        //given
+        DeveloperProperties properties = new DeveloperProperties();
+        properties.getCache().setTombstoneTtl(Duration.ZERO);
+        DeveloperCache expiringCache = new DeveloperCache(
+            new ConcurrentMapCacheManager(DeveloperCache.DEVELOPERS, DeveloperCache.DEVELOPER_IDS_BY_EMAIL), properties
+        );
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(1L).build();
+        //when
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.deactivated(1, null));
+        cacheUnderTest.put(developer);
+        expiringCache.onDeveloperChanged(DeveloperChangedEvent.deactivated(1, null));
+        expiringCache.put(developer);
+        //then
+        assertThat(cacheUnderTest.getById(1)).isEmpty();
+        assertThat(expiringCache.getById(1)).contains(developer);
+    }
+
+    @Test
+    @DisplayName("Test concurrent stale puts around a change functionality")
+    public void givenConcurrentPutsOfRandomVersions_whenDeveloperChanges_thenNoVersionBeforeChangeIsCachedAfterIt()
+        throws Exception {
+        //given
+        int readers = 8;
+        long changedVersion = 10;
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        CountDownLatch changed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<?>> puts = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            puts.add(executor.submit(() -> {
+                // keeps putting until well after the change, so puts race with the tombstone on both sides
+                int putsAfterChange = 0;
+                while (putsAfterChange < 10_000) {
+                    cacheUnderTest.put(developer.toBuilder().version(ThreadLocalRandom.current().nextLong(20)).build());
+                    if (changed.getCount() == 0) {
+                        putsAfterChange++;
+                    }
+                }
+            }));
+        }
+        //when
+        Thread.sleep(50);
+        cacheUnderTest.onDeveloperChanged(DeveloperChangedEvent.updated(developer.toBuilder().version(changedVersion).build()));
+        changed.countDown();
+        for (Future<?> put : puts) {
+            put.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        //then
+        assertThat(cacheUnderTest.getById(1).map(DeveloperEntity::getVersion).orElse(changedVersion))
+            .isGreaterThanOrEqualTo(changedVersion);
+    }
+
+}
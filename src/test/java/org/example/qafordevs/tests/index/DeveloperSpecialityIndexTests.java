@@ -0,0 +1,150 @@
+package org.example.qafordevs.tests.index;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.index.DeveloperSpecialityIndex;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@DisplayName("Developer speciality index tests")
+@ExtendWith(MockitoExtension.class)
+public class DeveloperSpecialityIndexTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private DeveloperSpecialityIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        indexUnderTest = new DeveloperSpecialityIndex(developerRepository, new DeveloperProperties());
+    }
+
+    @Test
+    @DisplayName("Test index is not served before build functionality")
+    public void givenIndexNotBuilt_whenGetActiveBySpeciality_thenEmptyIsReturned() {
+        //given
+        //when
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test build index functionality")
+    public void givenTwoActiveDevelopers_whenBuild_thenDevelopersAreGroupedBySpeciality() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+        //when
+        indexUnderTest.build();
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java").orElseThrow()).hasSize(2);
+        assertThat(indexUnderTest.getActiveBySpeciality("Go").orElseThrow()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test index follows developer changes functionality")
+    public void givenBuiltIndex_whenDevelopersChange_thenIndexIsUpdated() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+        indexUnderTest.build();
+        DeveloperEntity movedToGo = EntityGenerator.getDeveloperMikeSmithPersisted();
+        movedToGo.setSpeciality("Go");
+        DeveloperEntity created = EntityGenerator.getDeveloperFrankJonesPersisted();
+        created.setStatus(Status.ACTIVE);
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.updated(movedToGo));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.created(created));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.deactivated(1, null));
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java").orElseThrow())
+            .extracting(DeveloperEntity::getId)
+            .containsExactly(3);
+        assertThat(indexUnderTest.getActiveBySpeciality("Go").orElseThrow())
+            .extracting(DeveloperEntity::getId)
+            .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test changes keep developers ordered by id functionality")
+    public void givenBuiltIndex_whenDevelopersAddedAndRemovedOutOfOrder_thenDevelopersStayOrderedById() {
+        //given
+        givenActiveDevelopers(developerWithId(4), developerWithId(8));
+        indexUnderTest.build();
+        //when
+        for (int id : new int[]{6, 2, 10, 5}) {
+            indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.created(developerWithId(id)));
+        }
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.deleted(4));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.deleted(10));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.updated(developerWithId(8).toBuilder().speciality("Go").build()));
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java").orElseThrow()).extracting(DeveloperEntity::getId)
+            .containsExactly(2, 5, 6);
+        assertThat(indexUnderTest.getActiveBySpeciality("Go").orElseThrow()).extracting(DeveloperEntity::getId)
+            .containsExactly(8);
+    }
+
+    @Test
+    @DisplayName("Test indexed developers are not changed by callers functionality")
+    public void givenBuiltIndex_whenCallerChangesReturnedDevelopers_thenIndexIsUnchanged() {
+        //given
+        DeveloperEntity loaded = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(4L).build();
+        givenActiveDevelopers(loaded);
+        indexUnderTest.build();
+        loaded.setEmail("changed.by.loader@mail.com");
+        //when
+        DeveloperEntity returned = indexUnderTest.getActiveBySpeciality("Java").orElseThrow().get(0);
+        returned.setEmail("changed.by.caller@mail.com");
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java").orElseThrow())
+            .containsExactly(EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(4L).build())
+            .doesNotContain(returned);
+    }
+
+    @Test
+    @DisplayName("Test changes while building are replayed functionality")
+    public void givenChangeWhileLoading_whenBuild_thenChangeIsApplied() {
+        //given
+        BDDMockito
+            .given(developerRepository.findAllActiveAfterId(anyInt(), any(Pageable.class)))
+            .willAnswer(invocation -> {
+                // deleted after the page was read from the database
+                indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.deleted(2));
+                return List.of(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+            });
+        //when
+        indexUnderTest.build();
+        //then
+        assertThat(indexUnderTest.getActiveBySpeciality("Java").orElseThrow())
+            .extracting(DeveloperEntity::getId)
+            .containsExactly(1);
+    }
+
+    private static DeveloperEntity developerWithId(int id) {
+        return EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().id(id).status(Status.ACTIVE).build();
+    }
+
+    private void givenActiveDevelopers(DeveloperEntity... developers) {
+        BDDMockito
+            .given(developerRepository.findAllActiveAfterId(anyInt(), any(Pageable.class)))
+            .willReturn(List.of(developers))
+            .willReturn(List.of());
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.example.qafordevs.tests.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.limit.ConnectionPoolPressure;
+import org.example.qafordevs.limit.DeveloperLimitsAspect;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Developer limits aspect tests")
+public class DeveloperLimitsAspectTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionPoolPressure poolPressure;
+    private DeveloperService developerService;
+    private DeveloperService limitedService;
+
+    @BeforeEach
+    public void setUp() {
+        DeveloperProperties.Limits limits = new DeveloperProperties.Limits();
+        limits.getBulkheads().put("list", bulkhead(1));
+        limits.getBulkheads().put("default", bulkhead(16));
+        limits.getOperations().put("getAllDevelopers", operation("list", 2, true));
+        limits.getOperations().put("getAllActiveBySpeciality", operation("list", 0, true));
+        limits.getOperations().put("findDeveloperById", operation("default", 0, false));
+        DeveloperProperties developerProperties = new DeveloperProperties();
+        developerProperties.setLimits(limits);
+
+        meterRegistry = new SimpleMeterRegistry();
+        poolPressure = mock(ConnectionPoolPressure.class);
+        developerService = mock(DeveloperService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(developerService);
+        factory.addAspect(new DeveloperLimitsAspect(developerProperties, meterRegistry, poolPressure));
+        limitedService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Test calls over rate are rejected functionality")
+    public void givenRateLimitedOperation_whenCalledOverBurst_thenCallsAreRejected() {
+        //given
+        BDDMockito
+            .given(developerService.getAllDevelopers())
+            .willReturn(List.of());
+        //when
+        limitedService.getAllDevelopers();
+        limitedService.getAllDevelopers();
+        //then
+        assertThrows(RejectedExecutionException.class, () -> limitedService.getAllDevelopers());
+        BDDMockito.verify(developerService, BDDMockito.times(2)).getAllDevelopers();
+        assertThat(rejected("getAllDevelopers", "rate-limit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test sheddable calls are rejected while pool is overloaded functionality")
+    public void givenOverloadedPool_whenSheddableAndPointCallsAreMade_thenOnlySheddableCallsAreRejected() {
+        //given
+        BDDMockito
+            .given(poolPressure.isOverloaded())
+            .willReturn(true);
+        BDDMockito
+            .given(developerService.findDeveloperById(1))
+            .willReturn(Optional.of(EntityGenerator.getDeveloperJohnDoePersisted()));
+        //when
+        Optional<?> developer = limitedService.findDeveloperById(1);
+        //then
+        assertThat(developer).isPresent();
+        assertThrows(RejectedExecutionException.class, () -> limitedService.getAllActiveBySpeciality("Java"));
+        BDDMockito.verify(developerService, BDDMockito.never()).getAllActiveBySpeciality(anyString());
+        assertThat(rejected("getAllActiveBySpeciality", "shed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test calls to full bulkhead are rejected functionality")
+    public void givenFullBulkhead_whenAnotherCallIsMade_thenCallIsRejectedAndSlotIsReleasedAfterwards() throws Exception {
+        //given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BDDMockito
+            .given(developerService.getAllActiveBySpeciality("Java"))
+            .willAnswer(invocation -> {
+                entered.countDown();
+                release.await();
+                return List.of();
+            });
+        Thread holder = Thread.ofVirtual().start(() -> limitedService.getAllActiveBySpeciality("Java"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        //when
+        assertThrows(RejectedExecutionException.class, () -> limitedService.getAllActiveBySpeciality("Java"));
+        release.countDown();
+        holder.join();
+        //then
+        assertThat(rejected("getAllActiveBySpeciality", "bulkhead-full")).isEqualTo(1);
+        assertThat(meterRegistry.get(DeveloperLimitsAspect.BULKHEAD_AVAILABLE_GAUGE)
+            .tag("bulkhead", "list").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test unconfigured methods are not limited functionality")
+    public void givenMethodWithoutLimits_whenCalled_thenCallPassesThrough() {
+        //given
+        BDDMockito
+            .given(poolPressure.isOverloaded())
+            .willReturn(true);
+        //when
+        limitedService.getAllActiveContactsBySpeciality("Java");
+        //then
+        BDDMockito.verify(developerService).getAllActiveContactsBySpeciality("Java");
+    }
+
+    private double rejected(String method, String reason) {
+        return meterRegistry.get(DeveloperLimitsAspect.REJECTED_COUNTER)
+            .tag("method", method).tag("reason", reason).counter().count();
+    }
+
+    private static DeveloperProperties.Limits.Bulkhead bulkhead(int maxConcurrent) {
+        DeveloperProperties.Limits.Bulkhead bulkhead = new DeveloperProperties.Limits.Bulkhead();
+        bulkhead.setMaxConcurrent(maxConcurrent);
+        bulkhead.setMaxWait(Duration.ZERO);
+        return bulkhead;
+    }
+
+    private static DeveloperProperties.Limits.Operation operation(String bulkhead, double ratePerSecond, boolean sheddable) {
+        DeveloperProperties.Limits.Operation operation = new DeveloperProperties.Limits.Operation();
+        operation.setBulkhead(bulkhead);
+        operation.setRatePerSecond(ratePerSecond);
+        operation.setSheddable(sheddable);
+        return operation;
+    }
+
+}
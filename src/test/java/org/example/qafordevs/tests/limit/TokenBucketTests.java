@@ -0,0 +1,63 @@
+package org.example.qafordevs.tests.limit;
+
+import org.example.qafordevs.limit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Token bucket tests")
+public class TokenBucketTests {
+
+    @Test
+    @DisplayName("Test full bucket admits burst functionality")
+    public void givenFullBucket_whenBurstIsAcquired_thenOnlyBurstIsAdmitted() {
+        //given
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+        //when
+        int admitted = 0;
+        for (int i = 0; i < 5; i++) {
+            admitted += bucket.tryAcquire() ? 1 : 0;
+        }
+        //then
+        assertThat(admitted).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test empty bucket refills at rate functionality")
+    public void givenEmptyBucket_whenTimePasses_thenTokensAreRefilledAtRate() {
+        //given
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        bucket.tryAcquire();
+        //when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        boolean beforeRefill = bucket.tryAcquire();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        boolean afterRefill = bucket.tryAcquire();
+        //then
+        assertThat(beforeRefill).isFalse();
+        assertThat(afterRefill).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test idle bucket does not exceed burst functionality")
+    public void givenIdleBucket_whenLongTimePasses_thenTokensAreCappedAtBurst() {
+        //given
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+        //when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        int admitted = 0;
+        for (int i = 0; i < 5; i++) {
+            admitted += bucket.tryAcquire() ? 1 : 0;
+        }
+        //then
+        assertThat(admitted).isEqualTo(2);
+    }
+
+}
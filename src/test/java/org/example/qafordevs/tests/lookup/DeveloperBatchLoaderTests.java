@@ -0,0 +1,114 @@
+package org.example.qafordevs.tests.lookup;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.exception.DeveloperLookupTimeoutException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.lookup.DeveloperBatchLoader;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Developer batch loader tests")
+@ExtendWith(MockitoExtension.class)
+public class DeveloperBatchLoaderTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private DeveloperBatchLoader loaderUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        DeveloperProperties properties = new DeveloperProperties();
+        properties.getLookup().setBatchWindow(Duration.ofMillis(200));
+        loaderUnderTest = new DeveloperBatchLoader(developerRepository, properties);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        loaderUnderTest.destroy();
+    }
+
+    @Test
+    @DisplayName("Test lookups within window are loaded with one query functionality")
+    @SuppressWarnings("unchecked")
+    public void givenLookupsWithinWindow_whenLoad_thenOneInQueryIsExecuted() throws Exception {
+        //given
+        BDDMockito.given(developerRepository.findAllById(anyCollection())).willAnswer(invocation ->
+            new ArrayList<>((Collection<Integer>) invocation.getArgument(0)).stream()
+                .filter(id -> id != 3)
+                .map(id -> EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().id(id).build())
+                .toList()
+        );
+        //when
+        List<CompletableFuture<DeveloperEntity>> lookups = List.of(1, 2, 2).stream()
+            .map(id -> CompletableFuture.supplyAsync(() -> loaderUnderTest.load(id)))
+            .toList();
+        CompletableFuture<DeveloperEntity> missing = CompletableFuture.supplyAsync(() -> loaderUnderTest.load(3));
+        //then
+        assertThat(lookups.get(0).get(5, TimeUnit.SECONDS).getId()).isEqualTo(1);
+        assertThat(lookups.get(1).get(5, TimeUnit.SECONDS).getId()).isEqualTo(2);
+        assertThat(lookups.get(2).get(5, TimeUnit.SECONDS)).isNotSameAs(lookups.get(1).get());
+        assertThatThrownBy(() -> missing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeveloperNotFoundException.class);
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(developerRepository, times(1)).findAllById(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Test load error fails the batch and keeps the loader running functionality")
+    public void givenLoadThrowsError_whenLoad_thenCallerFailsAndNextLookupIsLoaded() {
+        //given
+        BDDMockito.given(developerRepository.findAllById(anyCollection()))
+            .willThrow(new StackOverflowError())
+            .willReturn(List.of(EntityGenerator.getDeveloperJohnDoePersisted()));
+        //when
+        //then
+        assertThatThrownBy(() -> loaderUnderTest.load(1)).isInstanceOf(StackOverflowError.class);
+        assertThat(loaderUnderTest.load(1).getId()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test lookup of a slow batch times out functionality")
+    public void givenSlowBatch_whenLoadWaitsLongerThanTimeout_thenTimeoutIsThrown() throws InterruptedException {
+        //given
+        loaderUnderTest.destroy();
+        DeveloperProperties properties = new DeveloperProperties();
+        properties.getLookup().setBatchWindow(Duration.ofMillis(1));
+        properties.getLookup().setWaitTimeout(Duration.ofMillis(100));
+        loaderUnderTest = new DeveloperBatchLoader(developerRepository, properties);
+        CountDownLatch release = new CountDownLatch(1);
+        BDDMockito.given(developerRepository.findAllById(anyCollection())).willAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        //when
+        //then
+        assertThatThrownBy(() -> loaderUnderTest.load(1)).isInstanceOf(DeveloperLookupTimeoutException.class);
+        release.countDown();
+    }
+
+}
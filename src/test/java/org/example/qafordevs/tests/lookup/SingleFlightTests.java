@@ -0,0 +1,162 @@
+package org.example.qafordevs.tests.lookup;
+
+import org.example.qafordevs.exception.DeveloperLookupTimeoutException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.lookup.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Single flight tests")
+public class SingleFlightTests {
+
+    private static final int CALLERS = 16;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SingleFlight<Integer, StringBuilder> flightUnderTest = new SingleFlight<>(StringBuilder::new);
+
+    @Test
+    @DisplayName("Test concurrent callers share one load functionality")
+    public void givenConcurrentCallersForSameKey_whenExecute_thenLoaderRunsOnceAndEveryoneGetsResult() throws Exception {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        //when
+        List<Future<StringBuilder>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flightUnderTest.execute(1, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return new StringBuilder("developer");
+            }, TIMEOUT)));
+        }
+        // gives every caller time to join the first load
+        Thread.sleep(200);
+        release.countDown();
+        List<StringBuilder> values = new ArrayList<>();
+        for (Future<StringBuilder> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(values).allSatisfy(value -> assertThat(value.toString()).isEqualTo("developer"));
+        assertThat(values.stream().distinct().count()).isEqualTo(CALLERS);
+    }
+
+    @Test
+    @DisplayName("Test concurrent callers share load failure functionality")
+    public void givenLoadFails_whenCallersWaitOnIt_thenEveryoneGetsSameException() throws Exception {
+        //given
+        DeveloperNotFoundException notFound = new DeveloperNotFoundException("Developer with id 1 not found");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> flightUnderTest.execute(1, () -> {
+            await(release);
+            throw notFound;
+        }, TIMEOUT));
+        Thread.sleep(100);
+        //when
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        Thread follower = Thread.ofPlatform().start(() -> {
+            try {
+                flightUnderTest.execute(1, () -> new StringBuilder("unexpected"), TIMEOUT);
+            } catch (RuntimeException e) {
+                followerError.set(e);
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+        follower.join(5000);
+        executor.shutdown();
+        //then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(notFound);
+        assertThat(followerError.get()).isSameAs(notFound);
+    }
+
+    @Test
+    @DisplayName("Test nothing is kept after load functionality")
+    public void givenCompletedLoad_whenExecuteAgain_thenLoaderRunsAgain() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        flightUnderTest.execute(1, () -> new StringBuilder(String.valueOf(loads.incrementAndGet())), TIMEOUT);
+        //when
+        StringBuilder value = flightUnderTest.execute(1, () -> new StringBuilder(String.valueOf(loads.incrementAndGet())), TIMEOUT);
+        //then
+        assertThat(value.toString()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("Test load error is shared and the key is released functionality")
+    public void givenLoadThrowsError_whenCallersWaitOnIt_thenEveryoneGetsErrorAndNextLoadRuns() throws Exception {
+        //given
+        StackOverflowError error = new StackOverflowError();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> flightUnderTest.execute(1, () -> {
+            await(release);
+            throw error;
+        }, TIMEOUT));
+        Thread.sleep(100);
+        //when
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        Thread follower = Thread.ofPlatform().start(() -> {
+            try {
+                flightUnderTest.execute(1, () -> new StringBuilder("unexpected"), TIMEOUT);
+            } catch (Throwable e) {
+                followerError.set(e);
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+        follower.join(5000);
+        executor.shutdown();
+        //then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(error);
+        assertThat(followerError.get()).isSameAs(error);
+        assertThat(flightUnderTest.execute(1, () -> new StringBuilder("next"), TIMEOUT).toString()).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Test waiting for a slow load times out functionality")
+    public void givenSlowLoad_whenCallerWaitsLongerThanTimeout_thenTimeoutIsThrown() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<StringBuilder> first = executor.submit(() -> flightUnderTest.execute(1, () -> {
+            await(release);
+            return new StringBuilder("developer");
+        }, TIMEOUT));
+        Thread.sleep(100);
+        //when
+        //then
+        assertThatThrownBy(() -> flightUnderTest.execute(1, () -> new StringBuilder("unexpected"), Duration.ofMillis(100)))
+            .isInstanceOf(DeveloperLookupTimeoutException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).toString()).isEqualTo("developer");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.example.qafordevs.tests.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.metrics.DeveloperMetricsAspect;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Developer metrics aspect tests")
+public class DeveloperMetricsAspectTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeveloperService developerService;
+    private DeveloperRepository developerRepository;
+    private DeveloperService instrumentedService;
+    private DeveloperRepository instrumentedRepository;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DeveloperMetricsAspect aspect = new DeveloperMetricsAspect(meterRegistry);
+        developerService = mock(DeveloperService.class);
+        developerRepository = mock(DeveloperRepository.class);
+        instrumentedService = proxy(developerService, aspect);
+        instrumentedRepository = proxy(developerRepository, aspect);
+    }
+
+    @Test
+    @DisplayName("Test service calls are timed by outcome functionality")
+    public void givenSuccessfulAndMissingLookups_whenServiceIsCalled_thenTimersAreTaggedByOutcome() {
+        //given
+        BDDMockito
+            .given(developerService.getDeveloperById(1))
+            .willReturn(EntityGenerator.getDeveloperJohnDoePersisted());
+        BDDMockito
+            .given(developerService.getDeveloperById(2))
+            .willThrow(new DeveloperNotFoundException("Developer with id 2 not found"));
+        //when
+        instrumentedService.getDeveloperById(1);
+        instrumentedService.getDeveloperById(1);
+        assertThrows(DeveloperNotFoundException.class, () -> instrumentedService.getDeveloperById(2));
+        //then
+        assertThat(meterRegistry.get(DeveloperMetricsAspect.SERVICE_TIMER)
+            .tag("method", "getDeveloperById").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(DeveloperMetricsAspect.SERVICE_TIMER)
+            .tag("method", "getDeveloperById").tag("outcome", "not-found").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test repository row counts are recorded functionality")
+    public void givenRepositoryResults_whenRepositoryIsCalled_thenRowCountsAreRecorded() {
+        //given
+        BDDMockito
+            .given(developerRepository.findAllActiveBySpeciality(anyString()))
+            .willReturn(List.of(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted()));
+        BDDMockito
+            .given(developerRepository.deactivateById(anyInt()))
+            .willReturn(1);
+        //when
+        instrumentedRepository.findAllActiveBySpeciality("Java");
+        instrumentedRepository.deactivateById(1);
+        //then
+        assertThat(meterRegistry.get(DeveloperMetricsAspect.REPOSITORY_ROWS)
+            .tag("method", "findAllActiveBySpeciality").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(DeveloperMetricsAspect.REPOSITORY_ROWS)
+            .tag("method", "deactivateById").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+}
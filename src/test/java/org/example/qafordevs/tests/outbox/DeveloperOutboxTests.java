@@ -0,0 +1,213 @@
+package org.example.qafordevs.tests.outbox;
+
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
+import org.example.qafordevs.outbox.DeveloperOutboxRelay;
+import org.example.qafordevs.outbox.DeveloperOutboxSequencer;
+import org.example.qafordevs.outbox.InMemoryDeveloperChangeSink;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.service.ReactiveDeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "developers.outbox.enabled=true",
+    "developers.outbox.relay-enabled=true",
+    // the test drives the sequencer and the relay itself
+    "developers.outbox.relay-interval=PT1H",
+    "developers.outbox.sequence-interval=PT1H",
+    "developers.outbox.sink=memory"
+})
+@DisplayName("Developer outbox tests")
+public class DeveloperOutboxTests {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private ReactiveDeveloperService reactiveDeveloperService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperOutboxRepository outboxRepository;
+
+    @Autowired
+    private DeveloperOutboxSequencer outboxSequencer;
+
+    @Autowired
+    private DeveloperOutboxRelay outboxRelay;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private InMemoryDeveloperChangeSink sink;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        outboxRepository.deleteAll();
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("Test every mutation is recorded in order functionality")
+    public void givenMutations_whenGetChangesSince_thenChangesAreReturnedInSequenceOrder() {
+        //given
+        DeveloperEntity developer = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        developerService.updateDeveloper(developer.toBuilder().speciality("Kotlin").build());
+        developerService.deactivateDeveloperById(developer.getId());
+        developerService.deleteDeveloperById(developer.getId());
+        outboxSequencer.assignSequences();
+        //when
+        List<DeveloperChange> changes = developerService.getChangesSince(null, 100);
+        List<DeveloperChange> afterFirst = developerService.getChangesSince(changes.get(0).sequence(), 100);
+        //then
+        assertThat(changes).extracting(DeveloperChange::type).containsExactly(
+            DeveloperChangedEvent.Type.CREATED, DeveloperChangedEvent.Type.UPDATED,
+            DeveloperChangedEvent.Type.DEACTIVATED, DeveloperChangedEvent.Type.DELETED
+        );
+        assertThat(changes.get(1).developer()).contains("Kotlin");
+        assertThat(afterFirst).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Test failed mutation is not recorded functionality")
+    public void givenDuplicateEmail_whenSaveDeveloper_thenNoChangeIsRecorded() {
+        //given
+        developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        //when
+        assertThrows(
+            DeveloperDuplicateEmailException.class,
+            () -> developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient())
+        );
+        //then
+        outboxSequencer.assignSequences();
+        assertThat(developerService.getChangesSince(null, 100)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Test bulk mutations record a change per developer functionality")
+    public void givenBulkSaveAndDeactivate_whenGetChangesSince_thenEveryDeveloperHasItsChange() {
+        //given
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperTransient(1), EntityGenerator.getDeveloperTransient(2), EntityGenerator.getDeveloperTransient(3)
+        );
+        developerService.saveDevelopers(developers);
+        developerService.deactivateDevelopers(developers.stream().map(DeveloperEntity::getId).toList());
+        outboxSequencer.assignSequences();
+        //when
+        List<DeveloperChange> changes = developerService.getChangesSince(null, 100);
+        //then
+        assertThat(changes).extracting(DeveloperChange::type).containsExactly(
+            DeveloperChangedEvent.Type.CREATED, DeveloperChangedEvent.Type.CREATED, DeveloperChangedEvent.Type.CREATED,
+            DeveloperChangedEvent.Type.DEACTIVATED, DeveloperChangedEvent.Type.DEACTIVATED, DeveloperChangedEvent.Type.DEACTIVATED
+        );
+    }
+
+    @Test
+    @DisplayName("Test asynchronous deactivation without write-behind is recorded functionality")
+    public void givenWriteBehindDisabled_whenDeactivateAsync_thenChangeIsRecordedWithTheUpdate() throws Exception {
+        //given
+        DeveloperEntity developer = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        //when
+        developerService.deactivateDeveloperByIdAsync(developer.getId()).get(5, TimeUnit.SECONDS);
+        outboxSequencer.assignSequences();
+        //then
+        assertThat(developerService.getChangesSince(null, 100)).extracting(DeveloperChange::type)
+            .containsExactly(DeveloperChangedEvent.Type.CREATED, DeveloperChangedEvent.Type.DEACTIVATED);
+    }
+
+    @Test
+    @DisplayName("Test reactive mutation is recorded functionality")
+    public void givenReactiveSave_whenGetChangesSince_thenChangeIsRecorded() {
+        //given
+        DeveloperEntity developer = reactiveDeveloperService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient()).block();
+        outboxSequencer.assignSequences();
+        //when
+        List<DeveloperChange> changes = developerService.getChangesSince(null, 100);
+        //then
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.type()).isEqualTo(DeveloperChangedEvent.Type.CREATED);
+            assertThat(change.developerId()).isEqualTo(developer.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("Test relay publishes changes once functionality")
+    public void givenRecordedChanges_whenRelayRunsTwice_thenSinkGetsEachChangeOnce() {
+        //given
+        developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        developerService.saveDeveloper(EntityGenerator.getDeveloperMikeSmithTransient());
+        outboxSequencer.assignSequences();
+        //when
+        outboxRelay.relay();
+        outboxRelay.relay();
+        //then
+        assertThat(sink.getChanges()).extracting(DeveloperChange::type)
+            .containsExactly(DeveloperChangedEvent.Type.CREATED, DeveloperChangedEvent.Type.CREATED);
+        assertThat(outboxRepository.findAllUnpublished(Pageable.ofSize(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test change committed after a later one is not skipped functionality")
+    public void givenChangesCommittedOutOfInsertOrder_whenConsumerResumes_thenLateChangeIsReturned() throws Exception {
+        //given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.saveAndFlush(DeveloperOutboxEntity.builder()
+                .type(DeveloperChangedEvent.Type.DELETED)
+                .developerId(-1)
+                .createdAt(Instant.now())
+                .build());
+            inserted.countDown();
+            awaitQuietly(commit);
+        }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+        developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        outboxSequencer.assignSequences();
+        List<DeveloperChange> firstRead = developerService.getChangesSince(null, 100);
+        //when
+        commit.countDown();
+        slowTransaction.get(5, TimeUnit.SECONDS);
+        outboxSequencer.assignSequences();
+        List<DeveloperChange> secondRead = developerService.getChangesSince(firstRead.get(firstRead.size() - 1).sequence(), 100);
+        //then
+        assertThat(firstRead).extracting(DeveloperChange::type).containsExactly(DeveloperChangedEvent.Type.CREATED);
+        assertThat(secondRead).extracting(DeveloperChange::developerId).containsExactly(-1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -1,6 +1,10 @@
 package org.example.qafordevs.tests.repository;
 
+import org.example.qafordevs.dto.DeveloperContact;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperView;
 import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
 import org.example.qafordevs.repository.DeveloperRepository;
 import org.example.qafordevs.utils.generator.EntityGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,11 +12,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @DisplayName("Developer repository tests")
@@ -81,6 +91,21 @@ public class DeveloperRepositoryTests {
     }
 
 
+    @Test
+    @DisplayName("Test save developer with duplicate email functionality")
+    public void givenDeveloperSaved_whenSaveDeveloperWithSameEmail_thenUniqueConstraintIsViolated() {
+        //given
+        developerRepository.saveAndFlush(EntityGenerator.getDeveloperJohnDoeTransient());
+        DeveloperEntity duplicate = EntityGenerator.getDeveloperMikeSmithTransient();
+        duplicate.setEmail("john.doe@mail.com");
+        //when
+        //then
+        assertThrows(
+            DataIntegrityViolationException.class,
+            () -> developerRepository.saveAndFlush(duplicate)
+        );
+    }
+
     @Test
     @DisplayName("Test get all developers functionality")
     public void givenThreeDevelopersAreStored_whenFindAll_thenAllDevelopersAreReturned() {
@@ -124,6 +149,94 @@ public class DeveloperRepositoryTests {
         assertThat(obtainedDevelopers.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Test get active developers after id functionality")
+    public void givenThreeDevelopersAndTwoActive_whenFindAllActiveAfterId_thenActiveDevelopersAreReturnedInPages() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperFrankJonesTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperEntity> firstPage = developerRepository.findAllActiveAfterId(0, PageRequest.ofSize(1));
+        List<DeveloperEntity> secondPage = developerRepository.findAllActiveAfterId(
+            firstPage.get(0).getId(), PageRequest.ofSize(1)
+        );
+        List<DeveloperEntity> thirdPage = developerRepository.findAllActiveAfterId(
+            secondPage.get(0).getId(), PageRequest.ofSize(1)
+        );
+        //then
+        assertThat(firstPage.get(0).getEmail()).isEqualTo(developer1.getEmail());
+        assertThat(secondPage.get(0).getEmail()).isEqualTo(developer3.getEmail());
+        assertThat(thirdPage).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test get all active contacts by speciality functionality")
+    public void givenThreeDevelopersAndTwoActive_whenFindAllActiveContactsBySpeciality_thenTwoContactsAreReturned() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperFrankJonesTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperContact> obtainedContacts = developerRepository.findAllActiveContactsBySpeciality("Java");
+        //then
+        assertThat(obtainedContacts).extracting(DeveloperContact::email)
+            .containsExactlyInAnyOrder(developer1.getEmail(), developer2.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test stream all active developers functionality")
+    public void givenThreeDevelopersAndTwoActive_whenStreamAllActive_thenTwoDevelopersAreStreamed() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperFrankJonesTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<String> streamedEmails;
+        try (Stream<DeveloperEntity> developers = developerRepository.streamAllActive()) {
+            streamedEmails = developers.map(DeveloperEntity::getEmail).toList();
+        }
+        //then
+        assertThat(streamedEmails).containsExactly(developer1.getEmail(), developer2.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test find existing emails functionality")
+    public void givenTwoDevelopersSaved_whenFindExistingEmails_thenOnlyStoredEmailsAreReturned() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        List<String> existingEmails = developerRepository.findExistingEmails(
+            List.of(developer1.getEmail(), "unknown@mail.com")
+        );
+        //then
+        assertThat(existingEmails).containsExactly(developer1.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test insert all developers functionality")
+    public void givenThreeDevelopers_whenInsertAll_thenIdsAreGeneratedAndDevelopersAreStored() {
+        //given
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperJohnDoeTransient(),
+            EntityGenerator.getDeveloperMikeSmithTransient(),
+            EntityGenerator.getDeveloperFrankJonesTransient()
+        );
+        //when
+        List<DeveloperEntity> insertedDevelopers = developerRepository.insertAll(developers);
+        //then
+        assertThat(insertedDevelopers).allMatch(developer -> developer.getId() != null);
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(insertedDevelopers.get(1).getId())
+            .orElse(null);
+        assertThat(obtainedDeveloper).isNotNull();
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo("mike.smith@mail.com");
+    }
+
     @Test
     @DisplayName("Test delete developer by id functionality")
     public void givenDeveloperIsSaved_whenDeleteById_thenDeveloperIsDeleted() {
@@ -138,4 +251,168 @@ public class DeveloperRepositoryTests {
         assertThat(obtainedDeveloper).isNull();
     }
 
+    @Test
+    @DisplayName("Test update developer with single statement functionality")
+    public void givenDeveloperSaved_whenUpdateDeveloper_thenOneRowIsUpdated() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient();
+        developerRepository.save(developer);
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoeTransient();
+        developerToUpdate.setId(developer.getId());
+        developerToUpdate.setEmail("updated@mail.com");
+        //when
+        int updated = developerRepository.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(developerRepository.findById(developer.getId()).orElseThrow().getEmail())
+            .isEqualTo("updated@mail.com");
+        assertThat(developerRepository.findVersionById(developer.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Test update developer with current and stale version functionality")
+    public void givenDeveloperSaved_whenUpdateDeveloperIfVersion_thenOnlyCurrentVersionIsApplied() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient();
+        developerRepository.save(developer);
+        DeveloperEntity developerToUpdate = developer.toBuilder().speciality("Kotlin").version(0L).build();
+        //when
+        int current = developerRepository.updateDeveloperIfVersion(developerToUpdate);
+        int stale = developerRepository.updateDeveloperIfVersion(developerToUpdate.toBuilder().speciality("Go").build());
+        //then
+        assertThat(current).isEqualTo(1);
+        assertThat(stale).isZero();
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(obtainedDeveloper.getSpeciality()).isEqualTo("Kotlin");
+        assertThat(obtainedDeveloper.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Test update not existing developer functionality")
+    public void givenDeveloperIsNotCreated_whenUpdateDeveloper_thenNoRowIsUpdated() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        //when
+        int updated = developerRepository.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("Test deactivate developer by id functionality")
+    public void givenDeveloperSaved_whenDeactivateById_thenStatusIsDeleted() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient();
+        developerRepository.save(developer);
+        //when
+        int deactivated = developerRepository.deactivateById(developer.getId());
+        //then
+        assertThat(deactivated).isEqualTo(1);
+        assertThat(developerRepository.findById(developer.getId()).orElseThrow().getStatus())
+            .isEqualTo(Status.DELETED);
+    }
+
+    @Test
+    @DisplayName("Test deactivate developers by ids functionality")
+    public void givenTwoDevelopersSaved_whenDeactivateAllByIds_thenBothAreDeactivated() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        int deactivated = developerRepository.deactivateAllByIds(List.of(developer1.getId(), developer2.getId(), -1));
+        //then
+        assertThat(deactivated).isEqualTo(2);
+        assertThat(developerRepository.findAllByStatus(Status.ACTIVE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test remove developer by id functionality")
+    public void givenDeveloperSaved_whenRemoveById_thenDeveloperIsDeletedAndCountIsReturned() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient();
+        developerRepository.save(developer);
+        //when
+        int removed = developerRepository.removeById(developer.getId());
+        int removedAgain = developerRepository.removeById(developer.getId());
+        //then
+        assertThat(removed).isEqualTo(1);
+        assertThat(removedAgain).isZero();
+        assertThat(developerRepository.findById(developer.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test get all active views functionality")
+    public void givenThreeDevelopersAndTwoActive_whenFindAllActiveViewsWithoutFields_thenAllFieldsAreSelected() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperFrankJonesTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperView> obtainedViews = developerRepository.findAllActiveViews(null, Set.of());
+        //then
+        assertThat(obtainedViews).containsExactlyInAnyOrder(
+            new DeveloperView(developer1.getId(), developer1.getFirstName(), developer1.getLastName(),
+                developer1.getEmail(), developer1.getSpeciality(), Status.ACTIVE),
+            new DeveloperView(developer2.getId(), developer2.getFirstName(), developer2.getLastName(),
+                developer2.getEmail(), developer2.getSpeciality(), Status.ACTIVE)
+        );
+    }
+
+    @Test
+    @DisplayName("Test get active views by speciality with selected fields functionality")
+    public void givenThreeDevelopersAndTwoActive_whenFindAllActiveViewsWithIdAndEmail_thenOnlyIdAndEmailAreSelected() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperFrankJonesTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperView> obtainedViews = developerRepository.findAllActiveViews(
+            "Java", EnumSet.of(DeveloperField.ID, DeveloperField.EMAIL)
+        );
+        //then
+        assertThat(obtainedViews).containsExactlyInAnyOrder(
+            new DeveloperView(developer1.getId(), null, null, developer1.getEmail(), null, null),
+            new DeveloperView(developer2.getId(), null, null, developer2.getEmail(), null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("Test search active developers by words functionality")
+    public void givenThreeDevelopersAndTwoActive_whenSearchActiveByWords_thenMatchingActiveDevelopersAreReturned() {
+        //given
+        DeveloperEntity developer1 = EntityGenerator.getDeveloperJohnDoeTransient();
+        DeveloperEntity developer2 = EntityGenerator.getDeveloperMikeSmithTransient();
+        DeveloperEntity developer3 = EntityGenerator.getDeveloperFrankJonesTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperView> byName = developerRepository.searchActiveByWords(List.of("jo"), 10);
+        List<DeveloperView> bySpeciality = developerRepository.searchActiveByWords(List.of("java"), 1);
+        List<DeveloperView> byTwoWords = developerRepository.searchActiveByWords(List.of("java", "sm"), 10);
+        List<DeveloperView> byWildcard = developerRepository.searchActiveByWords(List.of("j_"), 10);
+        //then
+        assertThat(byName).extracting(DeveloperView::email).containsExactly(developer1.getEmail());
+        assertThat(bySpeciality).extracting(DeveloperView::email).containsExactly(developer1.getEmail());
+        assertThat(byTwoWords).extracting(DeveloperView::email).containsExactly(developer2.getEmail());
+        assertThat(byWildcard).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test search matches words inside a column like the search index functionality")
+    public void givenDeveloperWithTwoWordLastName_whenSearchActiveByWords_thenOnlyWordStartsMatch() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient().toBuilder().lastName("Van Rossum").build();
+        developerRepository.save(developer);
+        //when
+        List<DeveloperView> bySecondWord = developerRepository.searchActiveByWords(List.of("ross"), 10);
+        List<DeveloperView> byBothWords = developerRepository.searchActiveByWords(List.of("van", "rossum"), 10);
+        List<DeveloperView> byWordMiddle = developerRepository.searchActiveByWords(List.of("ossum"), 10);
+        //then
+        assertThat(bySecondWord).extracting(DeveloperView::id).containsExactly(developer.getId());
+        assertThat(byBothWords).extracting(DeveloperView::id).containsExactly(developer.getId());
+        assertThat(byWordMiddle).isEmpty();
+    }
+
 }
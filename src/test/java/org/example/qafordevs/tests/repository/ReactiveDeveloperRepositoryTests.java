@@ -0,0 +1,64 @@
+package org.example.qafordevs.tests.repository;
+
+import org.example.qafordevs.entity.DeveloperRow;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.repository.ReactiveDeveloperRepository;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the schema comes from the Flyway migrations, which only run with the JDBC datasource of the full context
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Reactive developer repository tests")
+public class ReactiveDeveloperRepositoryTests {
+
+    @Autowired
+    private ReactiveDeveloperRepository developerRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("Test update developer with status functionality")
+    public void givenSavedDeveloper_whenUpdateDeveloper_thenRowAndVersionAreUpdated() {
+        //given
+        DeveloperRow saved = developerRepository.save(DeveloperRow.fromEntity(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .block();
+        DeveloperRow changed = new DeveloperRow(saved.id(), saved.firstName(), saved.lastName(), saved.email(),
+            "Kotlin", Status.DELETED, saved.version());
+        //when
+        StepVerifier.create(developerRepository.updateDeveloperIfVersion(changed))
+            .expectNext(1)
+            .verifyComplete();
+        //then
+        DeveloperRow obtained = developerRepository.findById(saved.id()).block();
+        assertThat(obtained.speciality()).isEqualTo("Kotlin");
+        assertThat(obtained.status()).isEqualTo(Status.DELETED);
+        assertThat(obtained.version()).isEqualTo(saved.version() + 1);
+    }
+
+    @Test
+    @DisplayName("Test update developer without status functionality")
+    public void givenSavedDeveloper_whenUpdateDeveloperWithNullStatus_thenStatusIsCleared() {
+        //given
+        DeveloperRow saved = developerRepository.save(DeveloperRow.fromEntity(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .block();
+        DeveloperRow changed = new DeveloperRow(saved.id(), saved.firstName(), saved.lastName(), saved.email(),
+            saved.speciality(), null, null);
+        //when
+        StepVerifier.create(developerRepository.updateDeveloper(changed))
+            .expectNext(1)
+            .verifyComplete();
+        //then
+        assertThat(developerRepository.findById(saved.id()).block().status()).isNull();
+    }
+
+}
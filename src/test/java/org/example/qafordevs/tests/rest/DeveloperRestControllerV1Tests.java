@@ -0,0 +1,304 @@
+package org.example.qafordevs.tests.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import org.example.qafordevs.dto.DeveloperDto;
+import org.example.qafordevs.dto.DeveloperField;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperValidationException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.rest.DeveloperRestControllerV1;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeveloperRestControllerV1.class)
+@DisplayName("Developer rest controller v1 tests")
+public class DeveloperRestControllerV1Tests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private DeveloperService developerService;
+
+    @Test
+    @DisplayName("Test create developer functionality")
+    public void givenDeveloperDto_whenCreateDeveloper_thenActiveDeveloperIsCreated() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoeTransient());
+        dto.setStatus(null);
+        BDDMockito
+            .given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+            .willReturn(EntityGenerator.getDeveloperJohnDoePersisted());
+        //when
+        mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            //then
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.email").value("john.doe@mail.com"));
+        ArgumentCaptor<DeveloperEntity> captor = ArgumentCaptor.forClass(DeveloperEntity.class);
+        verify(developerService).saveDeveloper(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Test create developer with id and version functionality")
+    public void givenDeveloperDtoWithIdAndVersion_whenCreateDeveloper_thenTheyAreIgnored() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoePersisted());
+        dto.setId(5);
+        dto.setVersion(3L);
+        BDDMockito
+            .given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+            .willReturn(EntityGenerator.getDeveloperJohnDoePersisted());
+        //when
+        mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            //then
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1));
+        ArgumentCaptor<DeveloperEntity> captor = ArgumentCaptor.forClass(DeveloperEntity.class);
+        verify(developerService).saveDeveloper(captor.capture());
+        assertThat(captor.getValue().getId()).isNull();
+        assertThat(captor.getValue().getVersion()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test create developer with duplicate email functionality")
+    public void givenDuplicateEmail_whenCreateDeveloper_thenConflictIsReturned() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoeTransient());
+        BDDMockito
+            .given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+            .willThrow(new DeveloperDuplicateEmailException("Developer with email john.doe@mail.com already exists"));
+        //when
+        mockMvc.perform(post("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            //then
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.status").value(409))
+            .andExpect(jsonPath("$.message").value("Developer with email john.doe@mail.com already exists"));
+    }
+
+    @Test
+    @DisplayName("Test get developer by id functionality")
+    public void givenId_whenGetDeveloperById_thenDeveloperDtoIsReturned() throws Exception {
+        //given
+        BDDMockito
+            .given(developerService.findDeveloperById(anyInt()))
+            .willReturn(Optional.of(EntityGenerator.getDeveloperJohnDoePersisted()));
+        //when
+        mockMvc.perform(get("/api/v1/developers/1"))
+            //then
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.firstName").value("John"))
+            .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Test get developer by id with entity tag functionality")
+    public void givenVersionedDeveloper_whenGetDeveloperById_thenVersionIsReturnedAsETag() throws Exception {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        developer.setVersion(7L);
+        BDDMockito
+            .given(developerService.findDeveloperById(anyInt()))
+            .willReturn(Optional.of(developer));
+        //when
+        mockMvc.perform(get("/api/v1/developers/1"))
+            //then
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+            .andExpect(jsonPath("$.version").value(7));
+    }
+
+    @Test
+    @DisplayName("Test update developer with If-Match functionality")
+    public void givenIfMatch_whenUpdateDeveloper_thenVersionIsExpected() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoePersisted());
+        DeveloperEntity updated = EntityGenerator.getDeveloperJohnDoePersisted();
+        updated.setVersion(8L);
+        BDDMockito
+            .given(developerService.updateDeveloper(any(DeveloperEntity.class)))
+            .willReturn(updated);
+        //when
+        mockMvc.perform(put("/api/v1/developers")
+                .header(HttpHeaders.IF_MATCH, "W/\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            //then
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+        ArgumentCaptor<DeveloperEntity> captor = ArgumentCaptor.forClass(DeveloperEntity.class);
+        verify(developerService).updateDeveloper(captor.capture());
+        assertThat(captor.getValue().getVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale If-Match functionality")
+    public void givenStaleIfMatch_whenUpdateDeveloper_thenPreconditionFailedIsReturned() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperDto.fromEntity(EntityGenerator.getDeveloperJohnDoePersisted());
+        BDDMockito
+            .given(developerService.updateDeveloper(any(DeveloperEntity.class)))
+            .willThrow(new DeveloperVersionConflictException("Developer with id 1 is no longer at version 7"));
+        //when
+        mockMvc.perform(put("/api/v1/developers")
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            //then
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    @DisplayName("Test get developer by incorrect id functionality")
+    public void givenIncorrectId_whenGetDeveloperById_thenNotFoundIsReturned() throws Exception {
+        //given
+        BDDMockito
+            .given(developerService.findDeveloperById(anyInt()))
+            .willReturn(Optional.empty());
+        //when
+        mockMvc.perform(get("/api/v1/developers/1"))
+            //then
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Developer with id 1 not found"));
+    }
+
+    @Test
+    @DisplayName("Test get developer by unknown email functionality")
+    public void givenUnknownEmail_whenGetDeveloperByEmail_thenNotFoundIsReturnedWithoutException() throws Exception {
+        //given
+        BDDMockito
+            .given(developerService.findDeveloperByEmail(anyString()))
+            .willReturn(Optional.empty());
+        //when
+        mockMvc.perform(get("/api/v1/developers/email/unknown@mail.com"))
+            //then
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.status").value(404))
+            .andExpect(jsonPath("$.message").value("Developer with email unknown@mail.com not found"));
+        verify(developerService, never()).getDeveloperByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Test soft delete developer functionality")
+    public void givenId_whenDeleteDeveloper_thenDeveloperIsDeactivated() throws Exception {
+        //given
+        //when
+        mockMvc.perform(delete("/api/v1/developers/1"))
+            //then
+            .andExpect(status().isNoContent());
+        verify(developerService).deactivateDeveloperById(1);
+        verify(developerService, never()).deleteDeveloperById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer functionality")
+    public void givenIdAndIsHard_whenDeleteDeveloper_thenDeveloperIsDeleted() throws Exception {
+        //given
+        //when
+        mockMvc.perform(delete("/api/v1/developers/1").param("isHard", "true"))
+            //then
+            .andExpect(status().isNoContent());
+        verify(developerService).deleteDeveloperById(1);
+        verify(developerService, never()).deactivateDeveloperById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get all developers with selected fields functionality")
+    public void givenFieldsParam_whenGetAllDevelopers_thenOnlySelectedFieldsAreReturned() throws Exception {
+        //given
+        BDDMockito
+            .given(developerService.getAllDeveloperViews(EnumSet.of(DeveloperField.ID, DeveloperField.EMAIL)))
+            .willReturn(List.of(new DeveloperView(1, null, null, "john.doe@mail.com", null, null)));
+        //when
+        mockMvc.perform(get("/api/v1/developers/all").param("fields", "id,email"))
+            //then
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1))
+            .andExpect(jsonPath("$[0].email").value("john.doe@mail.com"))
+            .andExpect(jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get all developers with unknown field functionality")
+    public void givenUnknownField_whenGetAllDevelopers_thenBadRequestIsReturned() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/developers/all").param("fields", "salary"))
+            //then
+            .andExpect(status().isBadRequest());
+        verify(developerService, never()).getAllDeveloperViews(any());
+    }
+
+    @Test
+    @DisplayName("Test search with invalid limit functionality")
+    public void givenInvalidLimit_whenSearchDevelopers_thenBadRequestIsReturned() throws Exception {
+        //given
+        BDDMockito
+            .given(developerService.searchDevelopers("jo", 0))
+            .willThrow(new DeveloperValidationException("Limit must be between 1 and 1000"));
+        //when
+        mockMvc.perform(get("/api/v1/developers/search").param("q", "jo").param("limit", "0"))
+            //then
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Limit must be between 1 and 1000"));
+    }
+
+    @Test
+    @DisplayName("Test internal illegal argument is not a bad request functionality")
+    public void givenIllegalArgumentInService_whenSearchDevelopers_thenItIsNotReportedAsBadRequest() {
+        //given
+        BDDMockito
+            .given(developerService.searchDevelopers("jo", 20))
+            .willThrow(new IllegalArgumentException("bug"));
+        //when
+        //then
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/developers/search").param("q", "jo")))
+            .isInstanceOf(ServletException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+}
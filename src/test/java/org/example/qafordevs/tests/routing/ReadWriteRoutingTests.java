@@ -0,0 +1,83 @@
+package org.example.qafordevs.tests.routing;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two unrelated in-memory databases stand in for the primary and the replica, so the database that answered
+ * tells where a read was routed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.cache.type=none",
+    "developers.replica.enabled=true",
+    "developers.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+    "developers.replica.username=sa",
+    "developers.replica.read-your-writes-window=500ms"
+})
+@DisplayName("Read/write routing tests")
+public class ReadWriteRoutingTests {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP TABLE IF EXISTS developers");
+        replica.execute("CREATE TABLE developers (id INTEGER AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(255), " +
+            "last_name VARCHAR(255), email VARCHAR(255), speciality VARCHAR(255), status VARCHAR(255), " +
+            "version BIGINT DEFAULT 0 NOT NULL)");
+        replica.update("INSERT INTO developers (first_name, last_name, email, speciality, status) " +
+            "VALUES ('Replica', 'Only', 'replica.only@mail.com', 'Java', 'ACTIVE')");
+    }
+
+    @Test
+    @DisplayName("Test reads go to replica outside read-your-writes window functionality")
+    public void givenWrite_whenReadWithinAndAfterWindow_thenPrimaryAndThenReplicaAnswers() throws InterruptedException {
+        //given
+        DeveloperEntity saved = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        //when
+        var withinWindow = developerService.getAllDevelopers();
+        Thread.sleep(600);
+        var afterWindow = developerService.getAllDevelopers();
+        //then
+        assertThat(withinWindow).extracting(DeveloperEntity::getEmail).containsExactly(saved.getEmail());
+        assertThat(afterWindow).extracting(DeveloperEntity::getEmail).containsExactly("replica.only@mail.com");
+    }
+
+    @Test
+    @DisplayName("Test writes go to primary functionality")
+    public void givenReplicaRouting_whenSave_thenDeveloperIsStoredOnPrimary() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoeTransient();
+        //when
+        developerService.saveDeveloper(developer);
+        //then
+        assertThat(developerRepository.findByEmail(developer.getEmail())).isNotNull();
+        assertThat(new JdbcTemplate(replicaDataSource)
+            .queryForObject("SELECT COUNT(*) FROM developers WHERE email = ?", Integer.class, developer.getEmail()))
+            .isZero();
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.example.qafordevs.tests.search;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperView;
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.search.DeveloperSearchIndex;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@DisplayName("Developer search index tests")
+@ExtendWith(MockitoExtension.class)
+public class DeveloperSearchIndexTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private DeveloperSearchIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        indexUnderTest = new DeveloperSearchIndex(developerRepository, new DeveloperProperties());
+    }
+
+    @Test
+    @DisplayName("Test index is not served before build functionality")
+    public void givenIndexNotBuilt_whenSearch_thenEmptyIsReturned() {
+        //given
+        //when
+        //then
+        assertThat(indexUnderTest.search("jo", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test prefix search functionality")
+    public void givenBuiltIndex_whenSearchByPrefix_thenMatchingDevelopersAreReturned() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+        indexUnderTest.build();
+        //when
+        List<DeveloperView> byFirstName = indexUnderTest.search("JO", 10).orElseThrow();
+        List<DeveloperView> bySpeciality = indexUnderTest.search("jav", 10).orElseThrow();
+        List<DeveloperView> byTwoWords = indexUnderTest.search("mike sm", 10).orElseThrow();
+        List<DeveloperView> noMatch = indexUnderTest.search("john smith", 10).orElseThrow();
+        //then
+        assertThat(byFirstName).extracting(DeveloperView::id).containsExactly(1);
+        assertThat(bySpeciality).extracting(DeveloperView::id).containsExactly(1, 2);
+        assertThat(byTwoWords).extracting(DeveloperView::id).containsExactly(2);
+        assertThat(noMatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test search result limit functionality")
+    public void givenBuiltIndex_whenSearchWithLimit_thenAtMostLimitDevelopersAreReturned() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+        indexUnderTest.build();
+        //when
+        List<DeveloperView> obtained = indexUnderTest.search("java", 1).orElseThrow();
+        //then
+        assertThat(obtained).extracting(DeveloperView::id).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Test search with a common and a rare word functionality")
+    public void givenManyDevelopersWithCommonTerm_whenSearchWithRareWord_thenOnlyDevelopersMatchingAllWordsAreReturned() {
+        //given
+        DeveloperEntity[] developers = new DeveloperEntity[100];
+        for (int i = 0; i < developers.length; i++) {
+            developers[i] = EntityGenerator.getDeveloperTransient(i).toBuilder().id(i + 1).speciality("Java").build();
+        }
+        developers[41].setLastName("Smith");
+        developers[73].setLastName("Smithson");
+        givenActiveDevelopers(developers);
+        indexUnderTest.build();
+        //when
+        List<DeveloperView> commonFirst = indexUnderTest.search("java smith", 10).orElseThrow();
+        List<DeveloperView> rareFirst = indexUnderTest.search("smith java", 1).orElseThrow();
+        List<DeveloperView> noMatch = indexUnderTest.search("java kotlin", 10).orElseThrow();
+        //then
+        assertThat(commonFirst).extracting(DeveloperView::id).containsExactly(42, 74);
+        assertThat(rareFirst).extracting(DeveloperView::id).containsExactly(42);
+        assertThat(noMatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test search matches words inside a field like the database fallback functionality")
+    public void givenDeveloperWithTwoWordLastName_whenSearch_thenOnlyWordStartsMatch() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().lastName("Van Rossum").build());
+        indexUnderTest.build();
+        //when
+        List<DeveloperView> bySecondWord = indexUnderTest.search("ross", 10).orElseThrow();
+        List<DeveloperView> byBothWords = indexUnderTest.search("van rossum", 10).orElseThrow();
+        List<DeveloperView> byWordMiddle = indexUnderTest.search("ossum", 10).orElseThrow();
+        //then
+        assertThat(bySecondWord).extracting(DeveloperView::id).containsExactly(1);
+        assertThat(byBothWords).extracting(DeveloperView::id).containsExactly(1);
+        assertThat(byWordMiddle).isEmpty();
+        assertThat(DeveloperSearchIndex.words(" Van  Rossum ")).containsExactly("van", "rossum");
+    }
+
+    @Test
+    @DisplayName("Test index follows developer changes functionality")
+    public void givenBuiltIndex_whenDevelopersChange_thenSearchReflectsChanges() {
+        //given
+        givenActiveDevelopers(EntityGenerator.getDeveloperJohnDoePersisted(), EntityGenerator.getDeveloperMikeSmithPersisted());
+        indexUnderTest.build();
+        DeveloperEntity renamed = EntityGenerator.getDeveloperMikeSmithPersisted();
+        renamed.setLastName("Johnson");
+        DeveloperEntity created = EntityGenerator.getDeveloperFrankJonesPersisted();
+        created.setStatus(Status.ACTIVE);
+        //when
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.updated(renamed));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.created(created));
+        indexUnderTest.onDeveloperChanged(DeveloperChangedEvent.deactivated(1, null));
+        //then
+        assertThat(indexUnderTest.search("joh", 10).orElseThrow()).extracting(DeveloperView::id).containsExactly(2);
+        assertThat(indexUnderTest.search("smi", 10).orElseThrow()).isEmpty();
+        assertThat(indexUnderTest.search("fra", 10).orElseThrow()).extracting(DeveloperView::id).containsExactly(3);
+    }
+
+    private void givenActiveDevelopers(DeveloperEntity... developers) {
+        BDDMockito
+            .given(developerRepository.findAllActiveAfterId(anyInt(), any(Pageable.class)))
+            .willReturn(List.of(developers))
+            .willReturn(List.of());
+    }
+
+}
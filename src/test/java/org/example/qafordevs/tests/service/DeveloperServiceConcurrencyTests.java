@@ -0,0 +1,119 @@
+package org.example.qafordevs.tests.service;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.service.DeveloperService;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Developer service concurrency tests")
+public class DeveloperServiceConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int EMAILS = 50;
+    private static final int UPDATES = 20;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test concurrent save with colliding emails functionality")
+    public void givenThreadsSavingSameEmails_whenSaveDeveloper_thenEachEmailIsStoredOnce() throws Exception {
+        //given
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int index = 0; index < EMAILS; index++) {
+                    try {
+                        developerService.saveDeveloper(EntityGenerator.getDeveloperTransient(index));
+                        saved.incrementAndGet();
+                    } catch (DeveloperDuplicateEmailException e) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        //then
+        List<DeveloperEntity> developers = developerRepository.findAll();
+        assertThat(saved.get()).isEqualTo(EMAILS);
+        assertThat(duplicates.get()).isEqualTo(EMAILS * (THREADS - 1));
+        assertThat(developers).hasSize(EMAILS);
+        assertThat(developers.stream().map(DeveloperEntity::getEmail).distinct().count()).isEqualTo(EMAILS);
+    }
+
+    @Test
+    @DisplayName("Test concurrent versioned updates of one developer functionality")
+    public void givenThreadsUpdatingSameDeveloper_whenUpdateDeveloperWithVersion_thenNoUpdateIsLost() throws Exception {
+        //given
+        DeveloperEntity developer = developerService.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient());
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int thread = 0; thread < THREADS; thread++) {
+            String speciality = "Thread-" + thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int update = 0; update < UPDATES; ) {
+                    DeveloperEntity current = developerRepository.findById(developer.getId()).orElseThrow();
+                    try {
+                        developerService.updateDeveloper(current.toBuilder().speciality(speciality).build());
+                        update++;
+                    } catch (DeveloperVersionConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        //then
+        DeveloperEntity updated = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(updated.getVersion()).isEqualTo((long) THREADS * UPDATES);
+        assertThat(conflicts.get()).isPositive();
+    }
+
+}
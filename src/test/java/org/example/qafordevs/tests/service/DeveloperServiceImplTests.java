@@ -1,26 +1,59 @@
 package org.example.qafordevs.tests.service;
 
+import jakarta.persistence.EntityManager;
+import org.example.qafordevs.cache.DeveloperCache;
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.dto.DeveloperBulkSaveReport;
+import org.example.qafordevs.dto.DeveloperChange;
+import org.example.qafordevs.dto.DeveloperContact;
+import org.example.qafordevs.dto.DeveloperPage;
+import org.example.qafordevs.dto.ExportFormat;
+import org.example.qafordevs.entity.ArchivedDeveloperEntity;
 import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.DeveloperOutboxEntity;
 import org.example.qafordevs.entity.Status;
+import org.example.qafordevs.event.DeveloperChangedEvent;
 import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
 import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.exception.DeveloperValidationException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.index.DeveloperSpecialityIndex;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperOutboxRepository;
 import org.example.qafordevs.repository.DeveloperRepository;
 import org.example.qafordevs.service.DeveloperServiceImpl;
 import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.util.CollectionUtils.isEmpty;
@@ -32,6 +65,30 @@ public class DeveloperServiceImplTests {
     @Mock
     private DeveloperRepository developerRepository;
 
+    @Mock
+    private DeveloperOutboxRepository outboxRepository;
+
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private DeveloperProperties developerProperties = new DeveloperProperties();
+
+    @Mock
+    private DeveloperCache developerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<DeveloperSpecialityIndex> specialityIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private DeveloperServiceImpl serviceUnderTest;
 
@@ -40,9 +97,6 @@ public class DeveloperServiceImplTests {
     public void givenDeveloperToSave_whenSave_thenRepositoryIsCalled() {
         //given
         DeveloperEntity developerToCreated = EntityGenerator.getDeveloperJohnDoeTransient();
-        BDDMockito
-            .given(developerRepository.findByEmail(anyString()))
-            .willReturn(null);
         BDDMockito
             .given(developerRepository.save(any(DeveloperEntity.class)))
             .willReturn(EntityGenerator.getDeveloperJohnDoePersisted());
@@ -51,6 +105,8 @@ public class DeveloperServiceImplTests {
         //then
         assertThat(savedDeveloper).isNotNull();
         verify(developerRepository, times(1)).save(developerToCreated);
+        verify(developerRepository, never()).findByEmail(anyString());
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     @Test
@@ -59,33 +115,166 @@ public class DeveloperServiceImplTests {
         //given
         DeveloperEntity developerToCreated = EntityGenerator.getDeveloperJohnDoeTransient();
         BDDMockito
-            .given(developerRepository.findByEmail(anyString()))
-            .willReturn(EntityGenerator.getDeveloperJohnDoePersisted());
+            .given(developerRepository.save(any(DeveloperEntity.class)))
+            .willThrow(duplicateEmailViolation());
         //when
         assertThrows(
             DeveloperDuplicateEmailException.class,
             () -> serviceUnderTest.saveDeveloper(developerToCreated)
         );
         //then
+        verify(developerRepository, times(1)).save(developerToCreated);
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test save developer with other integrity violation functionality")
+    public void givenDeveloperViolatingOtherConstraint_whenSave_thenViolationIsRethrown() {
+        //given
+        DeveloperEntity developerToCreated = EntityGenerator.getDeveloperJohnDoeTransient();
+        BDDMockito
+            .given(developerRepository.save(any(DeveloperEntity.class)))
+            .willThrow(new DataIntegrityViolationException("not null"));
+        //when
+        assertThrows(
+            DataIntegrityViolationException.class,
+            () -> serviceUnderTest.saveDeveloper(developerToCreated)
+        );
+        //then
+    }
+
+    @Test
+    @DisplayName("Test save developers in bulk functionality")
+    public void givenDevelopersWithDuplicates_whenSaveDevelopers_thenOnlyUniqueEmailsAreInserted() {
+        //given
+        developerProperties.getBulk().setChunkSize(2);
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperJohnDoeTransient(),
+            EntityGenerator.getDeveloperMikeSmithTransient(),
+            EntityGenerator.getDeveloperJohnDoeTransient(),
+            EntityGenerator.getDeveloperFrankJonesTransient()
+        );
+        BDDMockito
+            .given(developerRepository.findExistingEmails(anyCollection()))
+            .willReturn(List.of())
+            .willReturn(List.of("frank.jones@mail.com"));
+        BDDMockito
+            .given(developerRepository.insertAll(anyList()))
+            .willAnswer(invocation -> {
+                List<DeveloperEntity> inserted = invocation.getArgument(0);
+                inserted.forEach(developer -> developer.setId(developer.getEmail().length()));
+                return inserted;
+            });
+        //when
+        DeveloperBulkSaveReport report = serviceUnderTest.saveDevelopers(developers);
+        //then
+        assertThat(report.rows().size()).isEqualTo(4);
+        assertThat(report.count(DeveloperBulkSaveReport.Outcome.SAVED)).isEqualTo(2);
+        assertThat(report.rows().get(2).outcome()).isEqualTo(DeveloperBulkSaveReport.Outcome.DUPLICATE_EMAIL_IN_BATCH);
+        assertThat(report.rows().get(3).outcome()).isEqualTo(DeveloperBulkSaveReport.Outcome.DUPLICATE_EMAIL);
+        assertThat(report.rows().get(1).id()).isNotNull();
+        verify(developerRepository, times(2)).findExistingEmails(anyCollection());
+        verify(developerRepository, never()).findByEmail(anyString());
         verify(developerRepository, never()).save(any(DeveloperEntity.class));
     }
 
+    @Test
+    @DisplayName("Test save developers without email in bulk functionality")
+    public void givenDevelopersWithoutEmail_whenSaveDevelopers_thenAllAreInserted() {
+        //given
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperJohnDoeTransient().toBuilder().email(null).build(),
+            EntityGenerator.getDeveloperMikeSmithTransient().toBuilder().email(null).build()
+        );
+        BDDMockito
+            .given(developerRepository.findExistingEmails(anyCollection()))
+            .willReturn(List.of());
+        BDDMockito
+            .given(developerRepository.insertAll(anyList()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        //when
+        DeveloperBulkSaveReport report = serviceUnderTest.saveDevelopers(developers);
+        //then
+        assertThat(report.count(DeveloperBulkSaveReport.Outcome.SAVED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test save developers in bulk with email taken concurrently functionality")
+    public void givenEmailTakenAfterCheck_whenSaveDevelopers_thenChunkIsSavedAgainWithoutIt() {
+        //given
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperJohnDoeTransient(),
+            EntityGenerator.getDeveloperMikeSmithTransient()
+        );
+        BDDMockito
+            .given(developerRepository.findExistingEmails(anyCollection()))
+            .willReturn(List.of())
+            .willReturn(List.of("mike.smith@mail.com"));
+        BDDMockito
+            .given(developerRepository.insertAll(anyList()))
+            .willThrow(new DuplicateKeyException("duplicate key"))
+            .willAnswer(invocation -> invocation.getArgument(0));
+        //when
+        DeveloperBulkSaveReport report = serviceUnderTest.saveDevelopers(developers);
+        //then
+        assertThat(report.rows().get(0).outcome()).isEqualTo(DeveloperBulkSaveReport.Outcome.SAVED);
+        assertThat(report.rows().get(1).outcome()).isEqualTo(DeveloperBulkSaveReport.Outcome.DUPLICATE_EMAIL);
+        verify(developerRepository, times(2)).insertAll(anyList());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test save developers in bulk with unexplained duplicate key functionality")
+    public void givenDuplicateKeyWithoutTakenEmail_whenSaveDevelopers_thenExceptionIsThrown() {
+        //given
+        BDDMockito
+            .given(developerRepository.findExistingEmails(anyCollection()))
+            .willReturn(List.of());
+        BDDMockito
+            .given(developerRepository.insertAll(anyList()))
+            .willThrow(new DuplicateKeyException("duplicate key"));
+        //when
+        //then
+        assertThrows(DuplicateKeyException.class,
+            () -> serviceUnderTest.saveDevelopers(List.of(EntityGenerator.getDeveloperJohnDoeTransient())));
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperToUpdate_whenUpdateDeveloper_thenRepositoryIsCalled() {
         //given
         DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
         BDDMockito
-            .given(developerRepository.existsById(anyInt()))
-            .willReturn(true);
+            .given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+            .willReturn(1);
         BDDMockito
-            .given(developerRepository.save(any(DeveloperEntity.class)))
-            .willReturn(developerToUpdate);
+            .given(developerRepository.findVersionById(developerToUpdate.getId()))
+            .willReturn(4L);
         //when
         DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
         //then
-        assertThat(updatedDeveloper).isNotNull();
-        verify(developerRepository, times(1)).save(developerToUpdate);
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(4L);
+        verify(developerRepository, times(1)).updateDeveloper(developerToUpdate);
+        verify(developerRepository, never()).existsById(anyInt());
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with duplicate email functionality")
+    public void givenDeveloperToUpdateWithDuplicateEmail_whenUpdateDeveloper_thenExceptionIsThrown() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        BDDMockito
+            .given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+            .willThrow(duplicateEmailViolation());
+        //when
+        assertThrows(
+            DeveloperDuplicateEmailException.class,
+            () -> serviceUnderTest.updateDeveloper(developerToUpdate)
+        );
+        //then
     }
 
     @Test
@@ -94,7 +283,89 @@ public class DeveloperServiceImplTests {
         //given
         DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
         BDDMockito
-            .given(developerRepository.existsById(anyInt()))
+            .given(developerRepository.updateDeveloper(any(DeveloperEntity.class)))
+            .willReturn(0);
+        //when
+        assertThrows(
+            DeveloperNotFoundException.class,
+            () -> serviceUnderTest.updateDeveloper(developerToUpdate)
+        );
+        //then
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test update archived developer functionality")
+    public void givenArchivedDeveloper_whenUpdateDeveloper_thenDeveloperIsRestoredAndUpdated() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        BDDMockito
+            .given(developerRepository.updateDeveloperIfVersion(any(DeveloperEntity.class)))
+            .willReturn(0)
+            .willReturn(1);
+        BDDMockito
+            .given(archivedDeveloperRepository.copyToDevelopers(developerToUpdate.getId()))
+            .willReturn(1);
+        //when
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(4L);
+        verify(archivedDeveloperRepository, times(1)).removeById(developerToUpdate.getId());
+        verify(developerRepository, times(2)).updateDeveloperIfVersion(developerToUpdate);
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with expected version functionality")
+    public void givenDeveloperWithVersion_whenUpdateDeveloper_thenConditionalUpdateIsUsed() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        BDDMockito
+            .given(developerRepository.updateDeveloperIfVersion(any(DeveloperEntity.class)))
+            .willReturn(1);
+        //when
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(4L);
+        verify(developerRepository, never()).updateDeveloper(any(DeveloperEntity.class));
+        verify(developerRepository, never()).existsById(anyInt());
+        verify(developerRepository, never()).findVersionById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale version functionality")
+    public void givenDeveloperWithStaleVersion_whenUpdateDeveloper_thenConflictExceptionIsThrown() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        BDDMockito
+            .given(developerRepository.updateDeveloperIfVersion(any(DeveloperEntity.class)))
+            .willReturn(0);
+        BDDMockito
+            .given(developerRepository.existsById(developerToUpdate.getId()))
+            .willReturn(true);
+        //when
+        assertThrows(
+            DeveloperVersionConflictException.class,
+            () -> serviceUnderTest.updateDeveloper(developerToUpdate)
+        );
+        //then
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test update missing developer with version functionality")
+    public void givenMissingDeveloperWithVersion_whenUpdateDeveloper_thenNotFoundExceptionIsThrown() {
+        //given
+        DeveloperEntity developerToUpdate = EntityGenerator.getDeveloperJohnDoePersisted();
+        developerToUpdate.setVersion(3L);
+        BDDMockito
+            .given(developerRepository.updateDeveloperIfVersion(any(DeveloperEntity.class)))
+            .willReturn(0);
+        BDDMockito
+            .given(developerRepository.existsById(developerToUpdate.getId()))
             .willReturn(false);
         //when
         assertThrows(
@@ -102,7 +373,6 @@ public class DeveloperServiceImplTests {
             () -> serviceUnderTest.updateDeveloper(developerToUpdate)
         );
         //then
-        verify(developerRepository, never()).save(any(DeveloperEntity.class));
     }
 
     @Test
@@ -116,6 +386,21 @@ public class DeveloperServiceImplTests {
         DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
         //then
         assertThat(obtainedDeveloper).isNotNull();
+        verify(developerCache, times(1)).put(obtainedDeveloper);
+    }
+
+    @Test
+    @DisplayName("Test get cached developer by id functionality")
+    public void givenCachedDeveloper_whenGetDeveloperById_thenRepositoryIsNotCalled() {
+        //given
+        BDDMockito
+            .given(developerCache.getById(anyInt()))
+            .willReturn(Optional.of(EntityGenerator.getDeveloperJohnDoePersisted()));
+        //when
+        DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
+        //then
+        assertThat(obtainedDeveloper).isNotNull();
+        verify(developerRepository, never()).findById(anyInt());
     }
 
     @Test
@@ -133,6 +418,58 @@ public class DeveloperServiceImplTests {
         //then
     }
 
+    @Test
+    @DisplayName("Test get archived developer by id functionality")
+    public void givenArchivedDeveloper_whenGetDeveloperById_thenDeletedDeveloperIsReturned() {
+        //given
+        BDDMockito
+            .given(developerRepository.findById(anyInt()))
+            .willReturn(Optional.empty());
+        BDDMockito
+            .given(archivedDeveloperRepository.findById(1))
+            .willReturn(Optional.of(ArchivedDeveloperEntity.builder()
+                .id(1)
+                .email("john.doe@mail.com")
+                .status(Status.DELETED)
+                .version(2L)
+                .build()));
+        //when
+        DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
+        //then
+        assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.DELETED);
+        assertThat(obtainedDeveloper.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Test find developer by incorrect email functionality")
+    public void givenIncorrectEmail_whenFindDeveloperByEmail_thenEmptyIsReturned() {
+        //given
+        BDDMockito
+            .given(developerRepository.findByEmail(anyString()))
+            .willReturn(null);
+        //when
+        Optional<DeveloperEntity> obtainedDeveloper = serviceUnderTest.findDeveloperByEmail("john.doe@mail.com");
+        //then
+        assertThat(obtainedDeveloper).isEmpty();
+        verify(developerCache, never()).put(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test not found message of get developer by incorrect id functionality")
+    public void givenIncorrectId_whenGetDeveloperById_thenMessageNamesId() {
+        //given
+        BDDMockito
+            .given(developerRepository.findById(anyInt()))
+            .willReturn(Optional.empty());
+        //when
+        DeveloperNotFoundException exception = assertThrows(
+            DeveloperNotFoundException.class,
+            () -> serviceUnderTest.getDeveloperById(1)
+        );
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Developer with id 1 not found");
+    }
+
     @Test
     @DisplayName("Test get developer by email functionality")
     public void givenEmail_whenGetDeveloperByEmail_thenDeveloperIsReturned() {
@@ -144,6 +481,21 @@ public class DeveloperServiceImplTests {
         DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperByEmail("john.doe@mail.com");
         //then
         assertThat(obtainedDeveloper).isNotNull();
+        verify(developerCache, times(1)).put(obtainedDeveloper);
+    }
+
+    @Test
+    @DisplayName("Test get cached developer by email functionality")
+    public void givenCachedDeveloper_whenGetDeveloperByEmail_thenRepositoryIsNotCalled() {
+        //given
+        BDDMockito
+            .given(developerCache.getByEmail(anyString()))
+            .willReturn(Optional.of(EntityGenerator.getDeveloperJohnDoePersisted()));
+        //when
+        DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperByEmail("john.doe@mail.com");
+        //then
+        assertThat(obtainedDeveloper).isNotNull();
+        verify(developerRepository, never()).findByEmail(anyString());
     }
 
     @Test
@@ -169,17 +521,106 @@ public class DeveloperServiceImplTests {
         //given
         List<DeveloperEntity> developers = List.of(
             EntityGenerator.getDeveloperJohnDoePersisted(),
-            EntityGenerator.getDeveloperFrankJonesPersisted(),
             EntityGenerator.getDeveloperMikeSmithPersisted()
         );
         BDDMockito
-            .given(developerRepository.findAll())
+            .given(developerRepository.findAllByStatus(Status.ACTIVE))
             .willReturn(developers);
         //when
         List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.getAllDevelopers();
         //then
         assertThat(isEmpty(obtainedDevelopers)).isFalse();
         assertThat(obtainedDevelopers.size()).isEqualTo(2);
+        verify(developerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Test get active developers page functionality")
+    public void givenMoreDevelopersThanPageSize_whenGetActiveDevelopersPage_thenPageWithCursorIsReturned() {
+        //given
+        List<DeveloperEntity> developers = List.of(
+            EntityGenerator.getDeveloperJohnDoePersisted(),
+            EntityGenerator.getDeveloperMikeSmithPersisted()
+        );
+        BDDMockito
+            .given(developerRepository.findAllActiveAfterId(anyInt(), any(Pageable.class)))
+            .willReturn(developers);
+        //when
+        DeveloperPage obtainedPage = serviceUnderTest.getActiveDevelopersPage(null, 1);
+        //then
+        assertThat(obtainedPage.content().size()).isEqualTo(1);
+        assertThat(obtainedPage.hasNext()).isTrue();
+        assertThat(obtainedPage.nextCursor()).isEqualTo(1);
+        verify(developerRepository, times(1)).findAllActiveAfterId(0, PageRequest.ofSize(2));
+    }
+
+    @Test
+    @DisplayName("Test get last active developers page functionality")
+    public void givenFewerDevelopersThanPageSize_whenGetActiveDevelopersPage_thenLastPageIsReturned() {
+        //given
+        List<DeveloperEntity> developers = List.of(EntityGenerator.getDeveloperMikeSmithPersisted());
+        BDDMockito
+            .given(developerRepository.findAllActiveAfterId(anyInt(), any(Pageable.class)))
+            .willReturn(developers);
+        //when
+        DeveloperPage obtainedPage = serviceUnderTest.getActiveDevelopersPage(1, 10);
+        //then
+        assertThat(obtainedPage.content().size()).isEqualTo(1);
+        assertThat(obtainedPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test get active developers page with incorrect size functionality")
+    public void givenIncorrectPageSize_whenGetActiveDevelopersPage_thenExceptionIsThrown() {
+        //given
+        //when
+        assertThrows(
+            DeveloperValidationException.class,
+            () -> serviceUnderTest.getActiveDevelopersPage(null, 0)
+        );
+        //then
+        verify(developerRepository, never()).findAllActiveAfterId(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Test export active developers as ndjson functionality")
+    public void givenTwoActiveDevelopers_whenExportAsNdjson_thenOneLinePerDeveloperIsWritten() {
+        //given
+        BDDMockito
+            .given(developerRepository.streamAllActive())
+            .willReturn(Stream.of(
+                EntityGenerator.getDeveloperJohnDoePersisted(),
+                EntityGenerator.getDeveloperMikeSmithPersisted()
+            ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        //when
+        long exported = serviceUnderTest.exportActiveDevelopers(ExportFormat.NDJSON, outputStream);
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines.length).isEqualTo(2);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"firstName\":\"John\",\"lastName\":\"Doe\"," +
+            "\"email\":\"john.doe@mail.com\",\"speciality\":\"Java\",\"status\":\"ACTIVE\"}");
+        verify(entityManager, times(2)).detach(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test export active developers as csv functionality")
+    public void givenActiveDeveloperWithComma_whenExportAsCsv_thenFieldIsQuoted() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        developer.setSpeciality("Java, Kotlin");
+        BDDMockito
+            .given(developerRepository.streamAllActive())
+            .willReturn(Stream.of(developer));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        //when
+        serviceUnderTest.exportActiveDevelopers(ExportFormat.CSV, outputStream);
+        //then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "id,firstName,lastName,email,speciality,status\n" +
+                "1,John,Doe,john.doe@mail.com,\"Java, Kotlin\",ACTIVE\n"
+        );
     }
 
     @Test
@@ -200,20 +641,56 @@ public class DeveloperServiceImplTests {
         assertThat(obtainedDevelopers.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Test get all active by speciality from index functionality")
+    public void givenSpecialityIndexIsReady_whenGetAllActiveBySpeciality_thenRepositoryIsNotCalled() {
+        //given
+        DeveloperSpecialityIndex index = mock(DeveloperSpecialityIndex.class);
+        BDDMockito
+            .given(specialityIndex.getIfAvailable())
+            .willReturn(index);
+        BDDMockito
+            .given(index.getActiveBySpeciality(anyString()))
+            .willReturn(Optional.of(List.of(EntityGenerator.getDeveloperJohnDoePersisted())));
+        //when
+        List<DeveloperEntity> obtainedDevelopers = serviceUnderTest.getAllActiveBySpeciality("Java");
+        //then
+        assertThat(obtainedDevelopers.size()).isEqualTo(1);
+        verify(developerRepository, never()).findAllActiveBySpeciality(anyString());
+    }
+
+    @Test
+    @DisplayName("Test get all active contacts by speciality functionality")
+    public void givenTwoActiveContacts_whenGetAllActiveContactsBySpeciality_thenContactsAreReturned() {
+        //given
+        List<DeveloperContact> contacts = List.of(
+            new DeveloperContact(1, "John", "Doe", "john.doe@mail.com"),
+            new DeveloperContact(2, "Mike", "Smith", "mike.smith@mail.com")
+        );
+        BDDMockito
+            .given(developerRepository.findAllActiveContactsBySpeciality(anyString()))
+            .willReturn(contacts);
+        //when
+        List<DeveloperContact> obtainedContacts = serviceUnderTest.getAllActiveContactsBySpeciality("Java");
+        //then
+        assertThat(obtainedContacts.size()).isEqualTo(2);
+        verify(developerRepository, never()).findAllActiveBySpeciality(anyString());
+    }
+
     @Test
     @DisplayName("Test deactivate developer by id functionality")
     public void givenId_whenDeactivateDeveloperById_thenDeveloperIsDeactivatedAndRepositoryIsCalled() {
         //given
-        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
         BDDMockito
-            .given(developerRepository.findById(anyInt()))
-            .willReturn(Optional.of(developer));
+            .given(developerRepository.deactivateById(anyInt()))
+            .willReturn(1);
         //when
         serviceUnderTest.deactivateDeveloperById(1);
         //then
-        verify(developerRepository, times(1)).save(any(DeveloperEntity.class));
-        assertThat(developer.getStatus()).isEqualTo(Status.DELETED);
-        verify(developerRepository, never()).deleteById(anyInt());
+        verify(developerRepository, times(1)).deactivateById(1);
+        verify(developerRepository, never()).findById(anyInt());
+        verify(developerRepository, never()).removeById(anyInt());
+        verify(eventPublisher, times(1)).publishEvent(DeveloperChangedEvent.deactivated(1, null));
     }
 
     @Test
@@ -221,30 +698,101 @@ public class DeveloperServiceImplTests {
     public void givenIncorrectId_whenDeactivateDeveloperById_thenExceptionIsThrown(){
         //given
         BDDMockito
-            .given(developerRepository.findById(anyInt()))
-            .willReturn(Optional.empty());
+            .given(developerRepository.deactivateById(anyInt()))
+            .willReturn(0);
         //when
         assertThrows(
             DeveloperNotFoundException.class,
             ()-> serviceUnderTest.deactivateDeveloperById(1)
         );
         //then
-        verify(developerRepository, never()).save(any(DeveloperEntity.class));
-        verify(developerRepository, never()).deleteById(anyInt());
+        verify(developerRepository, never()).removeById(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test deactivate developer asynchronously without write-behind functionality")
+    public void givenWriteBehindDisabledAndIncorrectId_whenDeactivateDeveloperByIdAsync_thenFailedFutureIsReturned() {
+        //given
+        BDDMockito
+            .given(developerRepository.deactivateById(anyInt()))
+            .willReturn(0);
+        //when
+        CompletableFuture<Void> obtainedResult = serviceUnderTest.deactivateDeveloperByIdAsync(1);
+        //then
+        assertThat(obtainedResult.isCompletedExceptionally()).isTrue();
+        verify(developerRepository, times(1)).deactivateById(1);
+    }
+
+    @Test
+    @DisplayName("Test deactivate developers in bulk functionality")
+    public void givenIdsWithDuplicates_whenDeactivateDevelopers_thenDistinctIdsAreDeactivatedInChunks() {
+        //given
+        developerProperties.getBulk().setChunkSize(2);
+        BDDMockito
+            .given(developerRepository.findExistingIds(anyCollection()))
+            .willAnswer(invocation -> List.copyOf(invocation.<Collection<Integer>>getArgument(0)));
+        BDDMockito
+            .given(developerRepository.deactivateAllByIds(anyCollection()))
+            .willReturn(2)
+            .willReturn(1);
+        //when
+        int deactivated = serviceUnderTest.deactivateDevelopers(List.of(1, 2, 2, 3));
+        //then
+        assertThat(deactivated).isEqualTo(3);
+        verify(developerRepository, times(1)).deactivateAllByIds(List.of(1, 2));
+        verify(developerRepository, times(1)).deactivateAllByIds(List.of(3));
+        verify(eventPublisher, times(3)).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test deactivate unknown developers in bulk functionality")
+    public void givenUnknownIds_whenDeactivateDevelopers_thenOnlyExistingDevelopersAreDeactivatedAndPublished() {
+        //given
+        BDDMockito
+            .given(developerRepository.findExistingIds(List.of(1, 2, 3)))
+            .willReturn(List.of(2));
+        BDDMockito
+            .given(developerRepository.deactivateAllByIds(List.of(2)))
+            .willReturn(1);
+        //when
+        int deactivated = serviceUnderTest.deactivateDevelopers(List.of(1, 2, 3));
+        //then
+        assertThat(deactivated).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(DeveloperChangedEvent.deactivated(2, null));
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     @Test
     @DisplayName("Test delete developer by id functionality")
     public void givenId_whenDeleteDeveloperById_thenDeveloperIsDeletedAndRepositoryIsCalled() {
         //given
-        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
         BDDMockito
-            .given(developerRepository.findById(anyInt()))
-            .willReturn(Optional.of(developer));
+            .given(developerRepository.removeById(anyInt()))
+            .willReturn(1);
         //when
         serviceUnderTest.deleteDeveloperById(1);
         //then
-        verify(developerRepository, times(1)).deleteById(anyInt());
+        verify(developerRepository, times(1)).removeById(1);
+        verify(developerRepository, never()).findById(anyInt());
+        verify(eventPublisher, times(1)).publishEvent(DeveloperChangedEvent.deleted(1));
+    }
+
+    @Test
+    @DisplayName("Test hard delete archived developer functionality")
+    public void givenArchivedDeveloper_whenHardDelete_thenArchiveRowIsRemoved() {
+        //given
+        BDDMockito
+            .given(developerRepository.removeById(1))
+            .willReturn(0);
+        BDDMockito
+            .given(archivedDeveloperRepository.removeById(1))
+            .willReturn(1);
+        //when
+        serviceUnderTest.deleteDeveloperById(1);
+        //then
+        verify(archivedDeveloperRepository, times(1)).removeById(1);
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     @Test
@@ -252,15 +800,53 @@ public class DeveloperServiceImplTests {
     public void givenIncorrectId_whenDeleteDeveloperById_thenExceptionIsThrown(){
         //given
         BDDMockito
-            .given(developerRepository.findById(anyInt()))
-            .willReturn(Optional.empty());
+            .given(developerRepository.removeById(anyInt()))
+            .willReturn(0);
         //when
         assertThrows(
             DeveloperNotFoundException.class,
             ()-> serviceUnderTest.deleteDeveloperById(1)
         );
         //then
-        verify(developerRepository, never()).deleteById(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    private static DataIntegrityViolationException duplicateEmailViolation() {
+        return new DataIntegrityViolationException(
+            "duplicate key",
+            new ConstraintViolationException("duplicate key", new SQLException(), "PUBLIC.UK_DEVELOPERS_EMAIL_INDEX_2")
+        );
+    }
+
+    @Test
+    @DisplayName("Test get changes since sequence functionality")
+    public void givenRecordedChanges_whenGetChangesSince_thenChangesAfterSequenceAreReturned() {
+        //given
+        BDDMockito
+            .given(outboxRepository.findAllAfterSequence(5L, PageRequest.ofSize(2)))
+            .willReturn(List.of(
+                DeveloperOutboxEntity.builder().id(9L).commitSequence(6L).type(DeveloperChangedEvent.Type.CREATED).developerId(1).build(),
+                DeveloperOutboxEntity.builder().id(8L).commitSequence(7L).type(DeveloperChangedEvent.Type.DELETED).developerId(1).build()
+            ));
+        //when
+        List<DeveloperChange> obtainedChanges = serviceUnderTest.getChangesSince(5L, 2);
+        //then
+        assertThat(obtainedChanges.size()).isEqualTo(2);
+        assertThat(obtainedChanges.get(1).sequence()).isEqualTo(7L);
+        assertThat(obtainedChanges.get(1).type()).isEqualTo(DeveloperChangedEvent.Type.DELETED);
+    }
+
+    @Test
+    @DisplayName("Test get changes since with incorrect limit functionality")
+    public void givenIncorrectLimit_whenGetChangesSince_thenExceptionIsThrown() {
+        //given
+        //when
+        assertThrows(
+            DeveloperValidationException.class,
+            () -> serviceUnderTest.getChangesSince(0L, 0)
+        );
+        //then
+        verify(outboxRepository, never()).findAllAfterSequence(any(), any(Pageable.class));
     }
 
 }
@@ -0,0 +1,292 @@
+package org.example.qafordevs.tests.service;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.example.qafordevs.entity.DeveloperRow;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.exception.DeveloperDuplicateEmailException;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.exception.DeveloperVersionConflictException;
+import org.example.qafordevs.outbox.DeveloperOutboxWriter;
+import org.example.qafordevs.repository.ReactiveDeveloperRepository;
+import org.example.qafordevs.service.ReactiveDeveloperServiceImpl;
+import org.example.qafordevs.utils.generator.EntityGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Reactive developer service implementation tests")
+@ExtendWith(MockitoExtension.class)
+public class ReactiveDeveloperServiceImplTests {
+
+    @Mock
+    private ReactiveDeveloperRepository developerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ObjectProvider<DeveloperOutboxWriter> outboxWriter;
+
+    @InjectMocks
+    private ReactiveDeveloperServiceImpl serviceUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Test save developer functionality")
+    public void givenDeveloperToSave_whenSave_thenSavedDeveloperIsEmitted() {
+        //given
+        DeveloperEntity persisted = EntityGenerator.getDeveloperJohnDoePersisted();
+        BDDMockito.given(developerRepository.save(any(DeveloperRow.class)))
+            .willReturn(Mono.just(DeveloperRow.fromEntity(persisted)));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .expectNext(persisted)
+            .verifyComplete();
+        verify(eventPublisher).publishEvent(DeveloperChangedEvent.created(persisted));
+    }
+
+    @Test
+    @DisplayName("Test save developer with duplicate email functionality")
+    public void givenDuplicateEmail_whenSave_thenDuplicateEmailErrorIsEmitted() {
+        //given
+        BDDMockito.given(developerRepository.save(any(DeveloperRow.class)))
+            .willReturn(Mono.error(new DuplicateKeyException("insert failed",
+                new RuntimeException("duplicate key value violates unique constraint \"uk_developers_email\""))));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .expectError(DeveloperDuplicateEmailException.class)
+            .verify();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test save developer with other integrity violation functionality")
+    public void givenOtherIntegrityViolation_whenSave_thenViolationIsPropagated() {
+        //given
+        BDDMockito.given(developerRepository.save(any(DeveloperRow.class)))
+            .willReturn(Mono.error(new DataIntegrityViolationException("NULL not allowed for column \"EMAIL\"")));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .expectError(DataIntegrityViolationException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Test update missing developer functionality")
+    public void givenMissingDeveloper_whenUpdate_thenNotFoundErrorIsEmitted() {
+        //given
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperRow.class))).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.copyArchivedToDevelopers(1)).willReturn(Mono.just(0));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.updateDeveloper(EntityGenerator.getDeveloperJohnDoePersisted()))
+            .expectError(DeveloperNotFoundException.class)
+            .verify();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test update developer at expected version functionality")
+    public void givenVersion_whenUpdate_thenConditionalUpdateIsUsedAndNextVersionIsEmitted() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(3L).build();
+        BDDMockito.given(developerRepository.updateDeveloperIfVersion(DeveloperRow.fromEntity(developer)))
+            .willReturn(Mono.just(1));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.updateDeveloper(developer))
+            .expectNext(developer.toBuilder().version(4L).build())
+            .verifyComplete();
+        verify(developerRepository, never()).updateDeveloper(any(DeveloperRow.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer at stale version functionality")
+    public void givenStaleVersion_whenUpdate_thenVersionConflictErrorIsEmitted() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted().toBuilder().version(3L).build();
+        BDDMockito.given(developerRepository.updateDeveloperIfVersion(any(DeveloperRow.class))).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.copyArchivedToDevelopers(1)).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.existsById(1)).willReturn(Mono.just(true));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.updateDeveloper(developer))
+            .expectError(DeveloperVersionConflictException.class)
+            .verify();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test update archived developer functionality")
+    public void givenArchivedDeveloper_whenUpdate_thenDeveloperIsRestoredAndUpdated() {
+        //given
+        DeveloperEntity developer = EntityGenerator.getDeveloperJohnDoePersisted();
+        BDDMockito.given(developerRepository.updateDeveloper(any(DeveloperRow.class)))
+            .willReturn(Mono.just(0), Mono.just(1));
+        BDDMockito.given(developerRepository.copyArchivedToDevelopers(1)).willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.removeArchivedById(1)).willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.findVersionById(1)).willReturn(Mono.just(5L));
+        DeveloperEntity restored = developer.toBuilder().version(5L).build();
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.updateDeveloper(developer))
+            .expectNext(restored)
+            .verifyComplete();
+        verify(developerRepository).removeArchivedById(1);
+        verify(eventPublisher).publishEvent(DeveloperChangedEvent.updated(restored));
+    }
+
+    @Test
+    @DisplayName("Test get developer by id functionality")
+    public void givenId_whenGetById_thenDeveloperIsEmitted() {
+        //given
+        DeveloperEntity persisted = EntityGenerator.getDeveloperJohnDoePersisted();
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Mono.just(DeveloperRow.fromEntity(persisted)));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.getDeveloperById(1))
+            .expectNext(persisted)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test get archived developer by id functionality")
+    public void givenArchivedId_whenGetById_thenArchivedDeveloperIsEmitted() {
+        //given
+        DeveloperEntity archived = EntityGenerator.getDeveloperFrankJonesPersisted();
+        BDDMockito.given(developerRepository.findById(3)).willReturn(Mono.empty());
+        BDDMockito.given(developerRepository.findArchivedById(3)).willReturn(Mono.just(DeveloperRow.fromEntity(archived)));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.getDeveloperById(3))
+            .expectNext(archived)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test get developer by missing email functionality")
+    public void givenMissingEmail_whenGetByEmail_thenNotFoundErrorIsEmitted() {
+        //given
+        BDDMockito.given(developerRepository.findByEmail("missing@mail.com")).willReturn(Mono.empty());
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.getDeveloperByEmail("missing@mail.com"))
+            .expectError(DeveloperNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Test get all developers honours demand functionality")
+    public void givenActiveDevelopers_whenGetAllWithLimitedDemand_thenOnlyRequestedDevelopersAreEmitted() {
+        //given
+        BDDMockito.given(developerRepository.findAllActive()).willReturn(Flux.range(0, 100)
+            .map(i -> DeveloperRow.fromEntity(EntityGenerator.getDeveloperTransient(i))));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.getAllDevelopers(), 2)
+            .expectNextCount(2)
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Test deactivate developer by id functionality")
+    public void givenId_whenDeactivate_thenEventIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.deactivateById(1)).willReturn(Mono.just(1));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.deactivateDeveloperById(1)).verifyComplete();
+        verify(eventPublisher).publishEvent(DeveloperChangedEvent.deactivated(1, null));
+    }
+
+    @Test
+    @DisplayName("Test deactivate archived developer functionality")
+    public void givenArchivedId_whenDeactivate_thenNothingIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.deactivateById(3)).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.existsArchivedById(3)).willReturn(Mono.just(true));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.deactivateDeveloperById(3)).verifyComplete();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test delete archived developer functionality")
+    public void givenArchivedId_whenDelete_thenArchivedDeveloperIsRemovedAndEventIsPublished() {
+        //given
+        BDDMockito.given(developerRepository.removeById(3)).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.removeArchivedById(3)).willReturn(Mono.just(1));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.deleteDeveloperById(3)).verifyComplete();
+        verify(eventPublisher).publishEvent(DeveloperChangedEvent.deleted(3));
+    }
+
+    @Test
+    @DisplayName("Test delete missing developer functionality")
+    public void givenMissingId_whenDelete_thenNotFoundErrorIsEmitted() {
+        //given
+        BDDMockito.given(developerRepository.removeById(1)).willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.removeArchivedById(1)).willReturn(Mono.just(0));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.deleteDeveloperById(1))
+            .expectError(DeveloperNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Test change is recorded in the outbox before it is published functionality")
+    public void givenOutboxWriter_whenSave_thenChangeIsWrittenInTransactionAndPublishedAfterwards() {
+        //given
+        DeveloperEntity persisted = EntityGenerator.getDeveloperJohnDoePersisted();
+        DeveloperOutboxWriter writer = mock(DeveloperOutboxWriter.class);
+        BDDMockito.given(outboxWriter.getIfAvailable()).willReturn(writer);
+        BDDMockito.given(writer.write(DeveloperChangedEvent.created(persisted))).willReturn(Mono.empty());
+        BDDMockito.given(developerRepository.save(any(DeveloperRow.class)))
+            .willReturn(Mono.just(DeveloperRow.fromEntity(persisted)));
+        //when
+        //then
+        StepVerifier.create(serviceUnderTest.saveDeveloper(EntityGenerator.getDeveloperJohnDoeTransient()))
+            .expectNext(persisted)
+            .verifyComplete();
+        verify(transactionalOperator).transactional(any(Mono.class));
+        var order = inOrder(writer, eventPublisher);
+        order.verify(writer).write(DeveloperChangedEvent.created(persisted));
+        order.verify(eventPublisher).publishEvent(DeveloperChangedEvent.created(persisted));
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.example.qafordevs.tests.trace;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.example.qafordevs.trace.SqlTraceMode;
+import org.example.qafordevs.trace.SqlTraceProperties;
+import org.example.qafordevs.trace.SqlTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SQL tracer tests")
+public class SqlTracerTests {
+
+    private SqlTracer tracerUnderTest;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (tracerUnderTest != null) {
+            tracerUnderTest.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Test configure trace mode and sample rate functionality")
+    public void givenTracer_whenConfigure_thenModeAndSampleRateAreChanged() {
+        //given
+        tracerUnderTest = new SqlTracer(new SqlTraceProperties());
+        //when
+        tracerUnderTest.configure(SqlTraceMode.SAMPLED, 0.5);
+        tracerUnderTest.configure(null, null);
+        //then
+        assertThat(tracerUnderTest.getMode()).isEqualTo(SqlTraceMode.SAMPLED);
+        assertThat(tracerUnderTest.getSampleRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Test configure invalid sample rate functionality")
+    public void givenTracer_whenConfigureInvalidSampleRate_thenExceptionIsThrown() {
+        //given
+        tracerUnderTest = new SqlTracer(new SqlTraceProperties());
+        //when
+        //then
+        assertThatThrownBy(() -> tracerUnderTest.configure(SqlTraceMode.FULL, 1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tracerUnderTest.getMode()).isEqualTo(SqlTraceMode.OFF);
+    }
+
+    @Test
+    @DisplayName("Test statements traced while buffer is full are dropped functionality")
+    public void givenFullModeAndSmallBuffer_whenManyStatementsExecuted_thenOverflowIsCountedAsDropped() {
+        //given
+        SqlTraceProperties properties = new SqlTraceProperties();
+        properties.setMode(SqlTraceMode.FULL);
+        properties.setBufferSize(1);
+        tracerUnderTest = new SqlTracer(properties);
+        List<QueryInfo> queries = List.of(new QueryInfo("SELECT 1"));
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            tracerUnderTest.afterQuery(new ExecutionInfo(), queries);
+        }
+        //then
+        assertThat(tracerUnderTest.getDropped()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test nothing is traced when mode is off functionality")
+    public void givenOffMode_whenStatementsExecuted_thenNothingIsDropped() {
+        //given
+        SqlTraceProperties properties = new SqlTraceProperties();
+        properties.setBufferSize(1);
+        tracerUnderTest = new SqlTracer(properties);
+        List<QueryInfo> queries = List.of(new QueryInfo("SELECT 1"));
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            tracerUnderTest.afterQuery(new ExecutionInfo(), queries);
+        }
+        //then
+        assertThat(tracerUnderTest.getDropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test traced statement is copied when captured functionality")
+    public void givenFullMode_whenQueryInfoIsReusedAfterExecution_thenCapturedSqlAndParametersAreLogged() throws Exception {
+        //given
+        Logger logger = (Logger) LoggerFactory.getLogger("sql.trace");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        SqlTraceProperties properties = new SqlTraceProperties();
+        properties.setMode(SqlTraceMode.FULL);
+        tracerUnderTest = new SqlTracer(properties);
+        QueryInfo query = new QueryInfo("SELECT * FROM developers WHERE email = ?");
+        Method setString = PreparedStatement.class.getMethod("setString", int.class, String.class);
+        query.getParametersList().add(new ArrayList<>(List.of(
+            new ParameterSetOperation(setString, new Object[]{1, "john.doe@mail.com"})
+        )));
+        //when
+        tracerUnderTest.afterQuery(new ExecutionInfo(), List.of(query));
+        query.setQuery("SELECT 1");
+        query.getParametersList().clear();
+        //then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.list.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        logger.detachAppender(appender);
+        assertThat(appender.list).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString()
+            .contains("sql=\"SELECT * FROM developers WHERE email = ?\"")
+            .contains("params=[[john.doe@mail.com]]");
+    }
+
+    @Test
+    @DisplayName("Test sample rate outside 0 to 1 is rejected when bound functionality")
+    public void givenSampleRateOutOfRange_whenSetOnProperties_thenExceptionIsThrown() {
+        //given
+        SqlTraceProperties properties = new SqlTraceProperties();
+        //when
+        //then
+        assertThatThrownBy(() -> properties.setSampleRate(-0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> properties.setSampleRate(2)).isInstanceOf(IllegalArgumentException.class);
+        properties.setSampleRate(1);
+        assertThat(properties.getSampleRate()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,156 @@
+package org.example.qafordevs.tests.writebehind;
+
+import org.example.qafordevs.config.DeveloperProperties;
+import org.example.qafordevs.event.DeveloperChangedEvent;
+import org.example.qafordevs.exception.DeveloperNotFoundException;
+import org.example.qafordevs.repository.ArchivedDeveloperRepository;
+import org.example.qafordevs.repository.DeveloperRepository;
+import org.example.qafordevs.writebehind.DeveloperDeactivationQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Developer deactivation queue tests")
+@ExtendWith(MockitoExtension.class)
+public class DeveloperDeactivationQueueTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private ArchivedDeveloperRepository archivedDeveloperRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Test queued deactivations are coalesced into one update functionality")
+    @SuppressWarnings("unchecked")
+    public void givenRepeatedAndMissingIds_whenSubmittedBeforeFlush_thenOneUpdateAndFuturesAreCompleted() throws Exception {
+        //given
+        BDDMockito.given(developerRepository.findExistingIds(anyCollection())).willReturn(List.of(1, 2));
+        DeveloperDeactivationQueue queueUnderTest = queue(10, Duration.ofMillis(200), Duration.ofSeconds(1));
+        //when
+        CompletableFuture<Void> first = queueUnderTest.submit(1);
+        CompletableFuture<Void> again = queueUnderTest.submit(1);
+        CompletableFuture<Void> second = queueUnderTest.submit(2);
+        CompletableFuture<Void> missing = queueUnderTest.submit(3);
+        CompletableFuture.allOf(first, again, second).get(5, TimeUnit.SECONDS);
+        queueUnderTest.destroy();
+        //then
+        assertThatThrownBy(() -> missing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeveloperNotFoundException.class);
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(developerRepository, times(1)).deactivateAllByIds(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1, 2);
+        verify(eventPublisher, times(1)).publishEvent(DeveloperChangedEvent.deactivated(1, null));
+        verify(eventPublisher, times(1)).publishEvent(DeveloperChangedEvent.deactivated(2, null));
+    }
+
+    @Test
+    @DisplayName("Test archived developer is deactivated without an update functionality")
+    public void givenArchivedId_whenSubmit_thenFutureCompletesWithoutEvent() throws Exception {
+        //given
+        BDDMockito.given(developerRepository.findExistingIds(anyCollection())).willReturn(List.of());
+        BDDMockito.given(archivedDeveloperRepository.findExistingIds(anyCollection())).willReturn(List.of(7));
+        DeveloperDeactivationQueue queueUnderTest = queue(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+        //when
+        CompletableFuture<Void> archived = queueUnderTest.submit(7);
+        //then
+        archived.get(5, TimeUnit.SECONDS);
+        queueUnderTest.destroy();
+        verify(developerRepository, never()).deactivateAllByIds(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Test full queue rejects deactivation functionality")
+    public void givenFullQueue_whenSubmit_thenDeactivationIsRejected() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        BDDMockito.given(developerRepository.findExistingIds(anyCollection())).willAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        DeveloperDeactivationQueue queueUnderTest = queue(1, Duration.ofMillis(1), Duration.ofMillis(50));
+        queueUnderTest.submit(1);
+        // the worker is now stuck applying id 1, so the single slot is taken by id 2
+        Thread.sleep(100);
+        queueUnderTest.submit(2);
+        //when
+        //then
+        assertThatThrownBy(() -> queueUnderTest.submit(3)).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        queueUnderTest.destroy();
+    }
+
+    @Test
+    @DisplayName("Test pending deactivations are flushed on shutdown functionality")
+    public void givenPendingDeactivations_whenDestroy_thenTheyAreAppliedBeforeShutdown() throws Exception {
+        //given
+        BDDMockito.given(developerRepository.findExistingIds(anyCollection())).willAnswer(invocation ->
+            new ArrayList<>(invocation.<Collection<Integer>>getArgument(0)));
+        DeveloperDeactivationQueue queueUnderTest = queue(100, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            results.add(queueUnderTest.submit(id));
+        }
+        //when
+        queueUnderTest.destroy();
+        //then
+        assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+        assertThatThrownBy(() -> queueUnderTest.submit(11)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("Test error while applying fails the batch and keeps the worker functionality")
+    public void givenErrorWhileApplying_whenSubmit_thenBatchFailsAndLaterDeactivationsAreApplied() throws Exception {
+        //given
+        BDDMockito.given(developerRepository.findExistingIds(anyCollection()))
+            .willThrow(new StackOverflowError())
+            .willReturn(List.of(2));
+        DeveloperDeactivationQueue queueUnderTest = queue(10, Duration.ofMillis(10), Duration.ofSeconds(1));
+        //when
+        CompletableFuture<Void> failed = queueUnderTest.submit(1);
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        CompletableFuture<Void> applied = queueUnderTest.submit(2);
+        //then
+        applied.get(5, TimeUnit.SECONDS);
+        queueUnderTest.destroy();
+    }
+
+    private DeveloperDeactivationQueue queue(int capacity, Duration flushInterval, Duration offerTimeout) {
+        DeveloperProperties properties = new DeveloperProperties();
+        properties.getWriteBehind().setCapacity(capacity);
+        properties.getWriteBehind().setFlushInterval(flushInterval);
+        properties.getWriteBehind().setOfferTimeout(offerTimeout);
+        return new DeveloperDeactivationQueue(developerRepository, archivedDeveloperRepository, transactionManager,
+            eventPublisher, properties);
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.example.qafordevs.utils.generator;
+
+import org.example.qafordevs.entity.DeveloperEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DeveloperDataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    public static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.execute("DELETE FROM developers");
+        for (int from = 0; from < rows; from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int index = from; index < Math.min(from + BATCH_SIZE, rows); index++) {
+                DeveloperEntity developer = EntityGenerator.getDeveloperTransient(index);
+                batch.add(new Object[]{
+                    developer.getFirstName(),
+                    developer.getLastName(),
+                    developer.getEmail(),
+                    developer.getSpeciality(),
+                    developer.getStatus().name()
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO developers (first_name, last_name, email, speciality, status) VALUES (?, ?, ?, ?, ?)",
+                batch
+            );
+        }
+    }
+
+}
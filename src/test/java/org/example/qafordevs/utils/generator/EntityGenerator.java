@@ -6,6 +6,8 @@ import org.example.qafordevs.entity.Status;
 
 public class EntityGenerator {
 
+    private static final String[] SPECIALITIES = {"Java", "Kotlin", "Go", "Python", "JavaScript", "C++", "Rust", "Scala"};
+
     public static DeveloperEntity getDeveloperJohnDoeTransient() {
         return DeveloperEntity.builder()
             .firstName("John")
@@ -69,4 +71,14 @@ public class EntityGenerator {
             .build();
     }
 
+    public static DeveloperEntity getDeveloperTransient(int index) {
+        return DeveloperEntity.builder()
+            .firstName("First" + index)
+            .lastName("Last" + index)
+            .email("developer" + index + "@mail.com")
+            .speciality(SPECIALITIES[index % SPECIALITIES.length])
+            .status(index % 4 == 0 ? Status.DELETED : Status.ACTIVE)
+            .build();
+    }
+
 }